@@ -0,0 +1,95 @@
+package org.dci.assecorassessmentbackend.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible CSV input shaped like {@code sample-input.csv}: German names and
+ * cities with umlauts, padded columns, records split across two lines and a share of malformed
+ * rows.
+ */
+final class BenchmarkDataset {
+
+  static final long SEED = 42;
+
+  private static final String[] LAST_NAMES = {"Müller", "Petersen", "Johnson", "Millenium",
+      "Fujitsu", "Andersson", "Bart", "Gerber", "Klaussen", "Schmidt", "Weiß", "Jäger"};
+  private static final String[] FIRST_NAMES = {"Hans", "Peter", "Johnny", "Milly", "Tastatur",
+      "Anders", "Bertram", "Gerda", "Klaus", "Jonas", "Jürgen", "Günther"};
+  private static final String[] CITIES = {"Lauterecken", "Stralsund", "made up", "Berlin",
+      "Schweden - ☀", "Wasweißich", "Woanders", "Hierach", "Köln", "München",
+      "Frankfurt am Main", "Düsseldorf -*"};
+
+  /**
+   * Percentage of records split across two lines.
+   */
+  private static final int MULTI_LINE_PERCENT = 5;
+
+  /**
+   * Percentage of malformed records: missing zip code, missing columns or an invalid color.
+   */
+  private static final int MALFORMED_PERCENT = 3;
+
+  private BenchmarkDataset() {
+  }
+
+  /**
+   * Generates the lines of a CSV file.
+   *
+   * @param records Number of records; a split record contributes two lines.
+   * @return The lines without terminators.
+   */
+  static List<String> lines(int records) {
+    Random random = new Random(SEED);
+    List<String> lines = new ArrayList<>(records + records / 10);
+    for (int i = 0; i < records; i++) {
+      String lastName = pick(random, LAST_NAMES);
+      String firstName = pick(random, FIRST_NAMES);
+      String cityZip = String.format("%05d %s", random.nextInt(100_000), pick(random, CITIES));
+      String color = Integer.toString(1 + random.nextInt(7));
+
+      int kind = random.nextInt(100);
+      if (kind < MALFORMED_PERCENT) {
+        lines.add(malformed(random, lastName, firstName, cityZip, color));
+      } else if (kind < MALFORMED_PERCENT + MULTI_LINE_PERCENT) {
+        lines.add(lastName + ", " + firstName + ", ");
+        lines.add(cityZip + ", " + color + " ");
+      } else {
+        lines.add(lastName + ", " + firstName + ", " + cityZip + ", " + color);
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Generates a CSV file.
+   *
+   * @param records Number of records.
+   * @return The file content with {@code \n} terminators.
+   */
+  static String csv(int records) {
+    return String.join("\n", lines(records)) + "\n";
+  }
+
+  /**
+   * Upper-cases the first letter, as clients send e.g. {@code Grün} for {@code grün};
+   * upper-casing all of it would turn {@code weiß} into the unknown {@code WEISS}.
+   */
+  static String capitalize(String value) {
+    return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+
+  private static String malformed(Random random, String lastName, String firstName,
+      String cityZip, String color) {
+    return switch (random.nextInt(3)) {
+      case 0 -> lastName + ", " + firstName + ", " + cityZip.substring(6) + ", " + color;
+      case 1 -> lastName + ", " + firstName;
+      default -> lastName + ", " + firstName + ", " + cityZip + ", " + (8 + random.nextInt(2));
+    };
+  }
+
+  private static String pick(Random random, String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+}
@@ -0,0 +1,70 @@
+package org.dci.assecorassessmentbackend.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Color lookups by CSV code and by display name as sent in request paths, partly capitalized.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColorBenchmark {
+
+  private static final int INPUTS = 1024;
+
+  private final int[] codes = new int[INPUTS];
+  private final String[] displayNames = new String[INPUTS];
+  private final String[] unknownDisplayNames = {"lila", "orange", "schwarz", "pink"};
+  private int index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(BenchmarkDataset.SEED);
+    Color[] colors = Color.values();
+    for (int i = 0; i < INPUTS; i++) {
+      Color color = colors[random.nextInt(colors.length)];
+      codes[i] = color.getCode();
+      displayNames[i] = random.nextBoolean()
+          ? color.getDisplayName() : BenchmarkDataset.capitalize(color.getDisplayName());
+    }
+  }
+
+  @Benchmark
+  public Color fromCode() {
+    return Color.fromCode(codes[next()]);
+  }
+
+  @Benchmark
+  public Color fromDisplayName() {
+    return Color.fromDisplayName(displayNames[next()]);
+  }
+
+  @Benchmark
+  public Color fromDisplayNameUnknown() {
+    try {
+      return Color.fromDisplayName(unknownDisplayNames[next() & 3]);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private int next() {
+    index = (index + 1) & (INPUTS - 1);
+    return index;
+  }
+}
@@ -0,0 +1,150 @@
+package org.dci.assecorassessmentbackend.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.CsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing of single CSV records and of a whole file. Every invocation takes the next input of the
+ * generated dataset, so that branch prediction cannot settle on a single record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvParsingBenchmark {
+
+  private static final int RECORDS = 10_000;
+  private static final int FILE_RECORDS = 100_000;
+
+  private final CsvFileReader csvFileReader = new CsvFileReader(new SimpleMeterRegistry());
+
+  private String[][] validParts;
+  private String[] validCityZipParts;
+  private String[] malformedCityZipParts;
+  private String[] mergeLines;
+  private String[] mergePreviousLines;
+  private Path file;
+  private int index;
+
+  @Setup
+  public void setUp() throws IOException {
+    List<String[]> parts = new ArrayList<>();
+    List<String> cityZip = new ArrayList<>();
+    List<String> malformed = new ArrayList<>();
+    List<String> lines = new ArrayList<>();
+    List<String> previousLines = new ArrayList<>();
+
+    String pending = null;
+    for (String line : BenchmarkDataset.lines(RECORDS)) {
+      lines.add(line);
+      previousLines.add(pending);
+      Optional<String> merged = csvFileReader.mergeMultiLineData(line, pending);
+      if (merged.isEmpty()) {
+        pending = line.isBlank() || line.split(",").length > 2 ? null : line;
+        continue;
+      }
+      pending = null;
+      String[] columns = merged.get().split(",");
+      if (columns.length != 4) {
+        continue;
+      }
+      String cityZipPart = columns[2].trim();
+      if (cityZipPart.matches("\\d{5}\\s+.+")) {
+        parts.add(columns);
+        cityZip.add(cityZipPart);
+      } else {
+        malformed.add(cityZipPart);
+      }
+    }
+
+    validParts = parts.toArray(String[][]::new);
+    validCityZipParts = cityZip.toArray(String[]::new);
+    malformedCityZipParts = malformed.toArray(String[]::new);
+    mergeLines = lines.toArray(String[]::new);
+    mergePreviousLines = previousLines.toArray(String[]::new);
+
+    file = Files.createTempFile("persons-benchmark", ".csv");
+    Files.writeString(file, BenchmarkDataset.csv(FILE_RECORDS), StandardCharsets.UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Person parsePerson() {
+    String[] parts = validParts[next(validParts.length)];
+    try {
+      return csvFileReader.parsePerson(parts);
+    } catch (IllegalArgumentException e) {
+      // Unknown color codes are part of the dataset.
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Optional<String> mergeMultiLineData() {
+    int i = next(mergeLines.length);
+    return csvFileReader.mergeMultiLineData(mergeLines[i], mergePreviousLines[i]);
+  }
+
+  @Benchmark
+  public String extractZipCode() {
+    return csvFileReader.extractZipCode(validCityZipParts[next(validCityZipParts.length)]);
+  }
+
+  @Benchmark
+  public String extractCity() {
+    return csvFileReader.extractCity(validCityZipParts[next(validCityZipParts.length)]);
+  }
+
+  @Benchmark
+  public String extractCityMalformed() {
+    try {
+      return csvFileReader.extractCity(malformedCityZipParts[next(malformedCityZipParts.length)]);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Reads a generated file of {@value #FILE_RECORDS} records sequentially.
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void readFile(Blackhole blackhole) {
+    new CsvFileReader(file.toString(), new SimpleMeterRegistry())
+        .readData(blackhole::consume);
+  }
+
+  private int next(int length) {
+    if (++index >= length) {
+      index = 0;
+    }
+    return index;
+  }
+}
@@ -0,0 +1,114 @@
+package org.dci.assecorassessmentbackend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.CsvFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Mapping between entities and DTOs and the JSON serialization of person lists, using persons
+ * parsed from the generated dataset.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonMappingBenchmark {
+
+  /**
+   * Number of persons in the serialized list.
+   */
+  @Param({"100", "10000"})
+  private int listSize;
+
+  private final PersonMapper personMapper = new PersonMapper();
+
+  /**
+   * Configured like the mapper Spring Boot writes responses with.
+   */
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private Person[] persons;
+  private PersonCreateDto[] createDtos;
+  private List<PersonDto> personDtos;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    CsvFileReader csvFileReader = new CsvFileReader(new SimpleMeterRegistry());
+    Random random = new Random(BenchmarkDataset.SEED);
+    List<Person> generated = new ArrayList<>();
+    for (String line : BenchmarkDataset.lines(listSize * 2)) {
+      String[] parts = line.split(",");
+      if (parts.length == 4 && parts[2].trim().matches("\\d{5}\\s+.+")) {
+        try {
+          Person person = csvFileReader.parsePerson(parts);
+          person.setId((long) generated.size() + 1);
+          generated.add(person);
+        } catch (IllegalArgumentException e) {
+          // Skip malformed rows.
+        }
+      }
+    }
+    persons = generated.subList(0, listSize).toArray(Person[]::new);
+
+    createDtos = new PersonCreateDto[persons.length];
+    personDtos = new ArrayList<>(persons.length);
+    for (int i = 0; i < persons.length; i++) {
+      Person person = persons[i];
+      String color = random.nextBoolean()
+          ? person.getColor().getDisplayName()
+          : BenchmarkDataset.capitalize(person.getColor().getDisplayName());
+      createDtos[i] = new PersonCreateDto(person.getFirstName(), person.getLastName(),
+          person.getZipCode(), person.getCity(), color);
+      personDtos.add(personMapper.toPersonDto(person));
+    }
+  }
+
+  @Benchmark
+  public Person toPerson() {
+    return personMapper.toPerson(createDtos[next()]);
+  }
+
+  @Benchmark
+  public PersonDto toPersonDto() {
+    return personMapper.toPersonDto(persons[next()]);
+  }
+
+  /**
+   * Serializes the whole list of {@code listSize} persons, as the list endpoints do.
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public byte[] serializePersonList() throws Exception {
+    return objectMapper.writeValueAsBytes(personDtos);
+  }
+
+  private int next() {
+    if (++index >= persons.length) {
+      index = 0;
+    }
+    return index;
+  }
+}
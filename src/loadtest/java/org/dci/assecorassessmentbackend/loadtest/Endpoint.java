@@ -0,0 +1,45 @@
+package org.dci.assecorassessmentbackend.loadtest;
+
+/**
+ * Endpoints driven by the load test.
+ */
+enum Endpoint {
+  LIST("list", "GET /persons"),
+  BY_ID("by-id", "GET /persons/{id}"),
+  BY_COLOR("by-color", "GET /persons/color/{color}"),
+  CREATE("create", "POST /persons");
+
+  private final String key;
+  private final String route;
+
+  /**
+   * Constructor for Endpoint enum.
+   *
+   * @param key   Name of the endpoint in the mix option.
+   * @param route Method and path template of the endpoint, as reported.
+   */
+  Endpoint(String key, String route) {
+    this.key = key;
+    this.route = route;
+  }
+
+  /**
+   * Retrieves an Endpoint by its name in the mix option.
+   *
+   * @param key Name of the endpoint.
+   * @return Endpoint matching the name.
+   * @throws IllegalArgumentException if no endpoint has the name.
+   */
+  static Endpoint fromKey(String key) {
+    for (Endpoint endpoint : values()) {
+      if (endpoint.key.equals(key)) {
+        return endpoint;
+      }
+    }
+    throw new IllegalArgumentException("Unknown endpoint: " + key);
+  }
+
+  String getRoute() {
+    return route;
+  }
+}
@@ -0,0 +1,119 @@
+package org.dci.assecorassessmentbackend.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies and outcomes of the requests to one endpoint, recorded concurrently by all clients.
+ * Latencies are recorded in microseconds with three significant digits.
+ */
+final class EndpointStats {
+
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final Endpoint endpoint;
+  private final Recorder recorder = new Recorder(3);
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+
+  EndpointStats(Endpoint endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  /**
+   * Records a completed request.
+   *
+   * @param latencyMicros Time from sending the request to receiving the last byte of the
+   *                      response.
+   * @param successful    Whether the response had a 2xx status.
+   * @param bodyBytes     Length of the response body.
+   */
+  void record(long latencyMicros, boolean successful, long bodyBytes) {
+    recorder.recordValue(latencyMicros);
+    bytes.add(bodyBytes);
+    if (!successful) {
+      errors.increment();
+    }
+  }
+
+  /**
+   * Discards everything recorded so far, e.g. during the warmup.
+   */
+  void reset() {
+    recorder.getIntervalHistogram();
+    errors.reset();
+    bytes.reset();
+  }
+
+  /**
+   * Summarizes what was recorded since the last reset.
+   *
+   * @param elapsed Time the requests were recorded.
+   * @return The summary.
+   */
+  Result result(Duration elapsed) {
+    Histogram histogram = recorder.getIntervalHistogram();
+    double seconds = elapsed.toNanos() / 1e9;
+    List<Bucket> buckets = new ArrayList<>();
+    for (HistogramIterationValue value : histogram.percentiles(5)) {
+      buckets.add(new Bucket(value.getPercentileLevelIteratedTo(),
+          value.getValueIteratedTo() / MICROS_PER_MILLI, value.getTotalCountToThisValue()));
+    }
+    return new Result(endpoint.getRoute(), histogram.getTotalCount(), errors.sum(),
+        histogram.getTotalCount() / seconds, bytes.sum(),
+        new Latency(histogram.getMean() / MICROS_PER_MILLI,
+            percentile(histogram, 50), percentile(histogram, 90), percentile(histogram, 99),
+            percentile(histogram, 99.9), histogram.getMaxValue() / MICROS_PER_MILLI),
+        buckets);
+  }
+
+  private static double percentile(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+  }
+
+  /**
+   * Measurements of an endpoint.
+   *
+   * @param endpoint            Method and path template of the endpoint.
+   * @param requests            Number of completed requests.
+   * @param errors              Number of requests without a 2xx response.
+   * @param throughputPerSecond Completed requests per second.
+   * @param bytesReceived       Total length of the response bodies.
+   * @param latencyMillis       Latency summary in milliseconds.
+   * @param histogram           Latency distribution in milliseconds.
+   */
+  record Result(String endpoint, long requests, long errors, double throughputPerSecond,
+                long bytesReceived, Latency latencyMillis, List<Bucket> histogram) {
+
+  }
+
+  /**
+   * Latency summary.
+   *
+   * @param mean Mean latency.
+   * @param p50  Median latency.
+   * @param p90  90th percentile.
+   * @param p99  99th percentile.
+   * @param p999 99.9th percentile.
+   * @param max  Highest latency.
+   */
+  record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+  }
+
+  /**
+   * Point of a latency distribution.
+   *
+   * @param percentile    Percentage of the requests at most as slow as this point.
+   * @param latencyMillis Latency at this point.
+   * @param count         Number of requests at most as slow as this point.
+   */
+  record Bucket(double percentile, double latencyMillis, long count) {
+
+  }
+}
@@ -0,0 +1,288 @@
+package org.dci.assecorassessmentbackend.loadtest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.dci.assecorassessmentbackend.AssecorAssessmentBackendApplication;
+import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+/**
+ * End-to-end HTTP load test. Boots the application against an in-memory H2 database in
+ * PostgreSQL mode, seeds it with generated persons through the regular CSV import and then lets
+ * concurrent clients request a weighted mix of the person endpoints, each client sending its next
+ * request as soon as the previous response has been read. After a warmup, throughput and latency
+ * histograms of every endpoint are measured and written as JSON.
+ *
+ * <p>Since the clients wait for their responses, a stalled server delays requests rather than
+ * recording them as slow; compare the results at equal concurrency only. The clients share the
+ * machine with the application, so the numbers are relative: they compare configurations and
+ * versions of the application, not deployments.
+ *
+ * @see LoadTestOptions
+ */
+public final class LoadTest {
+
+  private static final String[] LAST_NAMES = {"Müller", "Petersen", "Johnson", "Millenium",
+      "Fujitsu", "Andersson", "Bart", "Gerber", "Klaussen", "Schmidt", "Weiß", "Jäger"};
+  private static final String[] FIRST_NAMES = {"Hans", "Peter", "Johnny", "Milly", "Tastatur",
+      "Anders", "Bertram", "Gerda", "Klaus", "Jonas", "Jürgen", "Günther"};
+  private static final String[] CITIES = {"Lauterecken", "Stralsund", "Berlin", "Wasweißich",
+      "Woanders", "Hierach", "Köln", "München", "Frankfurt am Main", "Düsseldorf"};
+  private static final Color[] COLORS = Color.values();
+  private static final Duration READINESS_TIMEOUT = Duration.ofMinutes(10);
+
+  private final LoadTestOptions options;
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .build();
+  private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+  private final Endpoint[] weightedEndpoints;
+  private URI baseUri;
+  private long firstId;
+  private long seededPersons;
+
+  private LoadTest(LoadTestOptions options) {
+    this.options = options;
+    List<Endpoint> weighted = new ArrayList<>();
+    options.mix().forEach((endpoint, weight) -> {
+      stats.put(endpoint, new EndpointStats(endpoint));
+      for (int i = 0; i < weight; i++) {
+        weighted.add(endpoint);
+      }
+    });
+    this.weightedEndpoints = weighted.toArray(Endpoint[]::new);
+  }
+
+  /**
+   * Runs a load test.
+   *
+   * @param args Options of the load test and application properties, see
+   *             {@link LoadTestOptions}.
+   * @throws Exception if the application cannot be started or the results cannot be written.
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    Path seed = Files.createTempFile("loadtest-persons", ".csv");
+    try {
+      writePersons(seed, options.persons());
+      try (ConfigurableApplicationContext context = SpringApplication.run(
+          AssecorAssessmentBackendApplication.class, applicationArgs(options, seed))) {
+        new LoadTest(options).run(context);
+      }
+    } finally {
+      Files.deleteIfExists(seed);
+    }
+    System.exit(0);
+  }
+
+  /**
+   * Waits for the seeded application, drives it through warmup and measurement and writes the
+   * results.
+   */
+  private void run(ConfigurableApplicationContext context) throws Exception {
+    baseUri = URI.create("http://localhost:"
+        + context.getEnvironment().getProperty("local.server.port"));
+    awaitReadiness();
+
+    PersonRepository personRepository = context.getBean(PersonRepository.class);
+    List<PersonDto> first = personRepository.findDtoPage(0L, Limit.of(1));
+    seededPersons = personRepository.count();
+    if (first.isEmpty()) {
+      throw new IllegalStateException("No persons were seeded");
+    }
+    firstId = first.get(0).getId();
+    System.out.printf("Seeded %d persons; warming up for %s with %d clients%n", seededPersons,
+        options.warmup(), options.concurrency());
+
+    long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+    long end = warmupEnd + options.duration().toNanos();
+    List<Thread> clients = new ArrayList<>(options.concurrency());
+    for (int i = 0; i < options.concurrency(); i++) {
+      clients.add(Thread.ofPlatform().name("loadtest-client-" + i).start(() -> drive(end)));
+    }
+    Thread.sleep(options.warmup().toMillis());
+    stats.values().forEach(EndpointStats::reset);
+    Instant measuredFrom = Instant.now();
+    System.out.printf("Measuring for %s%n", options.duration());
+    for (Thread client : clients) {
+      client.join();
+    }
+    writeResults(measuredFrom, Duration.between(measuredFrom, Instant.now()));
+  }
+
+  /**
+   * Sends requests one after another until the given time.
+   */
+  private void drive(long end) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    while (System.nanoTime() < end) {
+      Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+      HttpRequest request = request(endpoint, random);
+      long start = System.nanoTime();
+      boolean successful;
+      long bodyBytes;
+      try {
+        HttpResponse<InputStream> response =
+            client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+          bodyBytes = body.transferTo(OutputStream.nullOutputStream());
+        }
+        successful = response.statusCode() / 100 == 2;
+      } catch (IOException e) {
+        successful = false;
+        bodyBytes = 0;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      stats.get(endpoint).record((System.nanoTime() - start) / 1000, successful, bodyBytes);
+    }
+  }
+
+  private HttpRequest request(Endpoint endpoint, Random random) {
+    return switch (endpoint) {
+      case LIST -> get("/persons");
+      case BY_ID -> get("/persons/" + (firstId + random.nextLong(seededPersons)));
+      case BY_COLOR -> get("/persons/color/"
+          + URLEncoder.encode(pick(random, COLORS).getDisplayName(), UTF_8));
+      case CREATE -> HttpRequest.newBuilder(baseUri.resolve("/persons"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofByteArray(createBody(random)))
+          .build();
+    };
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .header("Accept", "application/json")
+        .build();
+  }
+
+  private byte[] createBody(Random random) {
+    try {
+      return objectMapper.writeValueAsBytes(new PersonCreateDto(pick(random, FIRST_NAMES),
+          pick(random, LAST_NAMES), String.format("%05d", random.nextInt(100_000)),
+          pick(random, CITIES), pick(random, COLORS).getDisplayName()));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Polls the readiness probe until the seed data has been loaded.
+   */
+  private void awaitReadiness() throws IOException, InterruptedException {
+    HttpRequest readiness = HttpRequest.newBuilder(baseUri.resolve("/actuator/health/readiness"))
+        .build();
+    long deadline = System.nanoTime() + READINESS_TIMEOUT.toNanos();
+    while (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("Application not ready after " + READINESS_TIMEOUT);
+      }
+      Thread.sleep(200);
+    }
+  }
+
+  private void writeResults(Instant measuredFrom, Duration elapsed) throws IOException {
+    List<EndpointStats.Result> endpoints = new ArrayList<>();
+    long requests = 0;
+    for (EndpointStats endpointStats : stats.values()) {
+      EndpointStats.Result result = endpointStats.result(elapsed);
+      endpoints.add(result);
+      requests += result.requests();
+      System.out.printf("%-28s %9d requests %8.1f/s  p50 %8.2f ms  p99 %8.2f ms  p99.9 %8.2f ms"
+              + "  errors %d%n", result.endpoint(), result.requests(),
+          result.throughputPerSecond(), result.latencyMillis().p50(), result.latencyMillis().p99(),
+          result.latencyMillis().p999(), result.errors());
+    }
+
+    Map<String, Object> mix = new LinkedHashMap<>();
+    options.mix().forEach((endpoint, weight) -> mix.put(endpoint.getRoute(), weight));
+    Map<String, Object> results = new LinkedHashMap<>();
+    results.put("startedAt", measuredFrom.toString());
+    results.put("persons", seededPersons);
+    results.put("concurrency", options.concurrency());
+    results.put("warmupSeconds", options.warmup().toMillis() / 1000.0);
+    results.put("durationSeconds", elapsed.toMillis() / 1000.0);
+    results.put("mix", mix);
+    results.put("applicationProperties", options.application());
+    results.put("requests", requests);
+    results.put("throughputPerSecond", requests / (elapsed.toNanos() / 1e9));
+    results.put("endpoints", endpoints);
+
+    Path output = options.output().toAbsolutePath();
+    Files.createDirectories(output.getParent());
+    objectMapper.writeValue(output.toFile(), results);
+    System.out.printf("Results written to %s%n", output);
+  }
+
+  /**
+   * Application properties of the run: an in-memory database seeded from the given file on a
+   * random port, overridden by the properties given in the options.
+   */
+  private static String[] applicationArgs(LoadTestOptions options, Path seed) {
+    Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("server.port", "0");
+    properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;"
+        + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+    properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+    properties.put("spring.datasource.username", "sa");
+    properties.put("spring.datasource.password", "");
+    properties.put("spring.jpa.show-sql", "false");
+    properties.put("app.data.file-path", seed.toString());
+    properties.put("app.data.load-mode", "jpa");
+    properties.put("app.data.watch.enabled", "false");
+    properties.putAll(options.application());
+    return properties.entrySet().stream()
+        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Writes a CSV file of valid persons in the format of {@code sample-input.csv}.
+   */
+  private static void writePersons(Path file, int persons) throws IOException {
+    Random random = new Random(42);
+    try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+      for (int i = 0; i < persons; i++) {
+        writer.write(pick(random, LAST_NAMES) + ", " + pick(random, FIRST_NAMES) + ", "
+            + String.format("%05d", random.nextInt(100_000)) + " " + pick(random, CITIES) + ", "
+            + (1 + random.nextInt(COLORS.length)));
+        writer.newLine();
+      }
+    }
+  }
+
+  private static <T> T pick(Random random, T[] values) {
+    return values[random.nextInt(values.length)];
+  }
+}
@@ -0,0 +1,112 @@
+package org.dci.assecorassessmentbackend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test, read from {@code --name=value} arguments.
+ *
+ * <ul>
+ *   <li>{@code --persons}: number of generated persons the database is seeded with, default
+ *   100000.</li>
+ *   <li>{@code --concurrency}: number of clients sending requests one after another, default
+ *   64.</li>
+ *   <li>{@code --warmup}: time the endpoints are driven before measuring, default 10s.</li>
+ *   <li>{@code --duration}: time the endpoints are measured, default 30s.</li>
+ *   <li>{@code --mix}: relative weights of the endpoints, default
+ *   {@code list:1,by-id:70,by-color:9,create:20}; endpoints left out are not requested.</li>
+ *   <li>{@code --output}: file the results are written to, default
+ *   {@code target/loadtest-result.json}.</li>
+ * </ul>
+ *
+ * <p>Any other argument is an application property, e.g.
+ * {@code --app.response-cache.enabled=true}, and overrides the defaults of the harness.
+ *
+ * @param persons     Number of generated persons.
+ * @param concurrency Number of concurrent clients.
+ * @param warmup      Time before measuring.
+ * @param duration    Time measured.
+ * @param mix         Weight of every requested endpoint.
+ * @param output      File the results are written to.
+ * @param application Application properties given in the arguments.
+ */
+record LoadTestOptions(int persons, int concurrency, Duration warmup, Duration duration,
+                       Map<Endpoint, Integer> mix, Path output, Map<String, String> application) {
+
+  /**
+   * Reads the options from command line arguments.
+   *
+   * @param args Arguments of the form {@code --name=value}.
+   * @return The options.
+   * @throws IllegalArgumentException if an argument is malformed.
+   */
+  static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (String arg : args) {
+      int equals = arg.indexOf('=');
+      if (!arg.startsWith("--") || equals < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+      }
+      values.put(arg.substring(2, equals), arg.substring(equals + 1));
+    }
+
+    int persons = Integer.parseInt(take(values, "persons", "100000"));
+    int concurrency = Integer.parseInt(take(values, "concurrency", "64"));
+    if (persons < 1 || concurrency < 1) {
+      throw new IllegalArgumentException("Persons and concurrency must be positive");
+    }
+    return new LoadTestOptions(persons, concurrency,
+        parseDuration(take(values, "warmup", "10s")),
+        parseDuration(take(values, "duration", "30s")),
+        parseMix(take(values, "mix", "list:1,by-id:70,by-color:9,create:20")),
+        Path.of(take(values, "output", "target/loadtest-result.json")),
+        values);
+  }
+
+  /**
+   * Removes an option of the harness from the arguments and returns its value.
+   */
+  private static String take(Map<String, String> values, String name, String defaultValue) {
+    String value = values.remove(name);
+    return value != null ? value : defaultValue;
+  }
+
+  /**
+   * Reads a duration such as {@code 30s}, {@code 2m} or {@code 500ms}.
+   */
+  private static Duration parseDuration(String value) {
+    if (value.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+    }
+    long amount = Long.parseLong(value.substring(0, value.length() - 1));
+    return switch (value.charAt(value.length() - 1)) {
+      case 's' -> Duration.ofSeconds(amount);
+      case 'm' -> Duration.ofMinutes(amount);
+      default -> throw new IllegalArgumentException("Unknown duration: " + value);
+    };
+  }
+
+  /**
+   * Reads endpoint weights such as {@code by-id:9,create:1}.
+   */
+  private static Map<Endpoint, Integer> parseMix(String value) {
+    Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    for (String entry : value.split(",")) {
+      String[] parts = entry.trim().split(":");
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight < 0) {
+        throw new IllegalArgumentException("Negative weight: " + entry);
+      }
+      if (weight > 0) {
+        mix.put(Endpoint.fromKey(parts[0].trim()), weight);
+      }
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("The mix requests no endpoint: " + value);
+    }
+    return mix;
+  }
+}
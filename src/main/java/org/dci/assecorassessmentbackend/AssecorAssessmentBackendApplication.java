@@ -2,7 +2,9 @@ package org.dci.assecorassessmentbackend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 
+@EnableAsync
 @SpringBootApplication
 public class AssecorAssessmentBackendApplication {
 
@@ -0,0 +1,78 @@
+package org.dci.assecorassessmentbackend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded in-process caches for person lookups. The caches record statistics, which are
+ * published as {@code cache.*} metrics on the actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String PERSON_BY_ID = "personById";
+  public static final String PERSONS_BY_COLOR = "personsByColor";
+
+  /**
+   * Creates the cache manager with a separately sized cache for each lookup.
+   *
+   * @param personByIdSpec     Caffeine spec of the cache of single persons.
+   * @param personsByColorSpec Caffeine spec of the cache of persons per color.
+   * @return The cache manager.
+   */
+  @Bean
+  public CacheManager cacheManager(
+      @Value("${app.cache.person-by-id.spec:maximumSize=100000,expireAfterWrite=10m}")
+      String personByIdSpec,
+      @Value("${app.cache.persons-by-color.spec:maximumSize=7,expireAfterWrite=10m}")
+      String personsByColorSpec) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.registerCustomCache(PERSON_BY_ID,
+        Caffeine.from(personByIdSpec).recordStats().build());
+    cacheManager.registerCustomCache(PERSONS_BY_COLOR,
+        Caffeine.from(personsByColorSpec).recordStats().build());
+    return cacheManager;
+  }
+
+  /**
+   * Keys persons by their numeric ID, so that e.g. {@code 1} and {@code 01} share an entry.
+   * Invalid IDs are passed on unchanged and rejected by the service.
+   *
+   * @return The key generator.
+   */
+  @Bean
+  public KeyGenerator personIdKeyGenerator() {
+    return (target, method, params) -> {
+      try {
+        return Long.valueOf((String) params[0]);
+      } catch (NumberFormatException e) {
+        return params[0];
+      }
+    };
+  }
+
+  /**
+   * Keys persons by their Color, so that display names differing in case share an entry.
+   * Invalid colors are passed on unchanged and rejected by the service.
+   *
+   * @return The key generator.
+   */
+  @Bean
+  public KeyGenerator colorKeyGenerator() {
+    return (target, method, params) -> {
+      try {
+        return Color.fromDisplayName((String) params[0]);
+      } catch (IllegalArgumentException e) {
+        return params[0];
+      }
+    };
+  }
+}
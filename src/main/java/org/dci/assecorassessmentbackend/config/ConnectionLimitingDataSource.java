@@ -0,0 +1,110 @@
+package org.dci.assecorassessmentbackend.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Lets at most a fixed number of threads hold a connection at the same time, the others waiting
+ * in arrival order on a semaphore. A permit is taken before a connection is requested from the
+ * pool and returned when the connection is closed.
+ *
+ * <p>With a permit per pooled connection, threads only reach the pool when a connection is free,
+ * so any number of virtual threads waits on the semaphore, where a blocked virtual thread
+ * releases its carrier, instead of crowding the pool.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final long timeoutMillis;
+
+  /**
+   * Creates a data source limiting the connections of another.
+   *
+   * @param targetDataSource Data source the connections are taken from.
+   * @param maxConnections   Number of connections that may be held at the same time.
+   * @param timeoutMillis    How long to wait for a permit before failing.
+   */
+  public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections,
+      long timeoutMillis) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConnections, true);
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Number of threads currently waiting for a connection permit.
+   *
+   * @return The estimated queue length.
+   */
+  public int getWaitingThreads() {
+    return permits.getQueueLength();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "No database connection available within " + timeoutMillis + " ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted waiting for a database connection",
+          e);
+    }
+  }
+
+  /**
+   * Wraps a connection so that closing it returns the permit, once.
+   */
+  private Connection releasingOnClose(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+          if (method.getName().equals("close") && method.getParameterCount() == 0) {
+            try {
+              connection.close();
+            } finally {
+              if (released.compareAndSet(false, true)) {
+                permits.release();
+              }
+            }
+            return null;
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          }
+        });
+  }
+}
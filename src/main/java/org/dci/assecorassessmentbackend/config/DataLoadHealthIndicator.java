@@ -0,0 +1,34 @@
+package org.dci.assecorassessmentbackend.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the data load as health contributor {@code dataLoad}. It is part of the readiness group,
+ * so the application only reports ready once the data source has been loaded.
+ */
+@Component
+public class DataLoadHealthIndicator implements HealthIndicator {
+
+  private final DataLoadProgress dataLoadProgress;
+
+  /**
+   * Constructor-based dependency injection for DataLoadHealthIndicator.
+   *
+   * @param dataLoadProgress Progress of the background data load.
+   */
+  public DataLoadHealthIndicator(DataLoadProgress dataLoadProgress) {
+    this.dataLoadProgress = dataLoadProgress;
+  }
+
+  @Override
+  public Health health() {
+    Health.Builder builder = switch (dataLoadProgress.getState()) {
+      case COMPLETED -> Health.up();
+      case FAILED -> Health.down();
+      case PENDING, RUNNING -> Health.outOfService();
+    };
+    return builder.withDetail("status", dataLoadProgress.toStatus()).build();
+  }
+}
@@ -0,0 +1,125 @@
+package org.dci.assecorassessmentbackend.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.dci.assecorassessmentbackend.dto.DataLoadStatusDto;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.DataSourceListener;
+import org.dci.assecorassessmentbackend.service.RejectionReason;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the progress of the data load so it can be reported while the load is running.
+ */
+@Component
+public class DataLoadProgress implements DataSourceListener {
+
+  /**
+   * Enum representing the lifecycle of a data load.
+   */
+  public enum State {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  private final AtomicLong parsed = new AtomicLong();
+  private final AtomicLong saved = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  private volatile State state = State.PENDING;
+  private volatile Instant startedAt;
+  private volatile Instant savingStartedAt;
+  private volatile Instant finishedAt;
+  private volatile String error;
+
+  /**
+   * Resets the counters and marks the load as running.
+   */
+  public void start() {
+    parsed.set(0);
+    saved.set(0);
+    rejected.set(0);
+    savingStartedAt = null;
+    finishedAt = null;
+    error = null;
+    startedAt = Instant.now();
+    state = State.RUNNING;
+  }
+
+  @Override
+  public void onRecordParsed(Person person) {
+    parsed.incrementAndGet();
+  }
+
+  @Override
+  public void onRecordRejected(RejectionReason reason) {
+    rejected.incrementAndGet();
+  }
+
+  /**
+   * Marks the end of parsing and the start of persisting.
+   */
+  public void savingStarted() {
+    savingStartedAt = Instant.now();
+  }
+
+  /**
+   * Adds persisted records.
+   *
+   * @param count Number of records persisted since the last call.
+   */
+  public void recordsSaved(int count) {
+    saved.addAndGet(count);
+  }
+
+  /**
+   * Marks the load as completed.
+   */
+  public void complete() {
+    finishedAt = Instant.now();
+    state = State.COMPLETED;
+  }
+
+  /**
+   * Marks the load as failed.
+   *
+   * @param e The cause of the failure.
+   */
+  public void fail(Exception e) {
+    error = e.getMessage();
+    finishedAt = Instant.now();
+    state = State.FAILED;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  /**
+   * Creates a snapshot of the current progress. The estimated time remaining is only known while
+   * records are being persisted, extrapolated from the save rate so far.
+   *
+   * @return The current status.
+   */
+  public DataLoadStatusDto toStatus() {
+    Instant now = Instant.now();
+    Instant end = finishedAt != null ? finishedAt : now;
+    long parsedRecords = parsed.get();
+    long savedRecords = saved.get();
+
+    Long elapsedMillis = startedAt == null ? null : Duration.between(startedAt, end).toMillis();
+    Long etaMillis = null;
+    if (state == State.RUNNING && savingStartedAt != null && savedRecords > 0) {
+      long savingMillis = Duration.between(savingStartedAt, now).toMillis();
+      etaMillis = (parsedRecords - savedRecords) * savingMillis / savedRecords;
+    } else if (state == State.COMPLETED) {
+      etaMillis = 0L;
+    }
+
+    return new DataLoadStatusDto(state.name(), parsedRecords, savedRecords, rejected.get(),
+        elapsedMillis, etaMillis, error);
+  }
+}
@@ -1,59 +1,316 @@
 package org.dci.assecorassessmentbackend.config;
 
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
 import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.DataSourceFingerprint;
 import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.DataSourceFingerprintRepository;
+import org.dci.assecorassessmentbackend.repository.PersonCopyRepository;
 import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.dci.assecorassessmentbackend.service.DataSourceListener;
 import org.dci.assecorassessmentbackend.service.DataSourceReader;
+import org.dci.assecorassessmentbackend.service.PersonDiff;
+import org.dci.assecorassessmentbackend.service.PersonSyncService;
+import org.dci.assecorassessmentbackend.service.PersonsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Component
 public class DataLoader {
 
+  private static final String FINGERPRINT_NAME = "persons";
+  private static final DataSourceListener NO_PROGRESS = new DataSourceListener() {
+  };
+
   private final DataSourceReader dataSourceReader;
   private final PersonRepository personRepository;
+  private final PersonCopyRepository personCopyRepository;
+  private final PersonSyncService personSyncService;
+  private final DataSourceFingerprintRepository fingerprintRepository;
+  private final DataLoadProgress dataLoadProgress;
+  private final ApplicationEventPublisher eventPublisher;
+  private final LoadMode loadMode;
+  private final boolean incremental;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Throughput of the last full save, exposed as a gauge.
+   */
+  private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+  /**
+   * Serializes the initial load and reloads.
+   */
+  private final ReentrantLock loadLock = new ReentrantLock();
+
+  /**
+   * Set when a load failed, so that the next reload does not rely on what was read before.
+   */
+  private boolean fullSyncRequired;
 
   /**
    * Constructor-based dependency injection for DataLoader.
    *
-   * @param dataSourceReader Service responsible for reading data source.
-   * @param personRepository Repository for Person entities.
+   * @param dataSourceReader      Service responsible for reading data source.
+   * @param personRepository      Repository for Person entities.
+   * @param personCopyRepository  Repository bulk loading Person entities with COPY.
+   * @param personSyncService     Service applying only the changed rows of the data source.
+   * @param fingerprintRepository Repository for the fingerprint of the last loaded data source.
+   * @param dataLoadProgress      Progress of the data load reported to clients.
+   * @param eventPublisher        Publisher notifying about written persons.
+   * @param loadMode              How the data source is persisted.
+   * @param incremental           Whether an unchanged data source is skipped and a changed one
+   *                              is applied as a diff against the persisted persons; otherwise
+   *                              the persisted persons are replaced on every start.
+   * @param meterRegistry         Registry of the save duration and throughput.
+   * @param transactionManager    Transaction manager replacing the persons in one transaction.
    */
-  public DataLoader(DataSourceReader dataSourceReader, PersonRepository personRepository) {
+  public DataLoader(DataSourceReader dataSourceReader, PersonRepository personRepository,
+      PersonCopyRepository personCopyRepository, PersonSyncService personSyncService,
+      DataSourceFingerprintRepository fingerprintRepository, DataLoadProgress dataLoadProgress,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${app.data.load-mode:jpa}") LoadMode loadMode,
+      @Value("${app.data.incremental:false}") boolean incremental,
+      MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
     this.dataSourceReader = dataSourceReader;
     this.personRepository = personRepository;
+    this.personCopyRepository = personCopyRepository;
+    this.personSyncService = personSyncService;
+    this.fingerprintRepository = fingerprintRepository;
+    this.dataLoadProgress = dataLoadProgress;
+    this.eventPublisher = eventPublisher;
+    this.loadMode = loadMode;
+    this.incremental = incremental;
+    this.meterRegistry = meterRegistry;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    Gauge.builder("persons.load.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+        .description("Rows per second of the last full save of the data source")
+        .register(meterRegistry);
   }
 
   /**
-   * Initializes data loading process after bean construction. Reads data from the data source and
-   * saves it to the repository. Logs errors if the data loading process encounters issues.
+   * Starts the data loading process in the background once the application is up, so requests
+   * are accepted while the data is loading. Reads data from the data source and saves it to the
+   * repository. The progress is tracked in DataLoadProgress, which also keeps the application out
+   * of readiness until the load has completed.
    */
-  @PostConstruct
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
   public void loadData() {
+    loadLock.lock();
     try {
-      List<Person> personList = dataSourceReader.readData();
-      savePersons(personList);
-      log.info("Data successfully loaded. Total records: {}", personList.size());
+      dataLoadProgress.start();
+      PersonsChangedEvent event;
+      if (incremental) {
+        event = loadIncrementally();
+      } else {
+        List<Person> personList = dataSourceReader.readData(dataLoadProgress);
+        event = savePersons(personList);
+        log.info("Data successfully loaded. Total records: {}", personList.size());
+      }
+      eventPublisher.publishEvent(event);
+      dataLoadProgress.complete();
     } catch (DataAccessException e) {
+      dataLoadProgress.fail(e);
       log.error("Database error occurred while saving data: {}", e.getMessage(), e);
     } catch (Exception e) {
+      dataLoadProgress.fail(e);
       log.error("Unexpected error occurred during data loading: {}", e.getMessage(), e);
+    } finally {
+      fullSyncRequired = dataLoadProgress.getState() == DataLoadProgress.State.FAILED;
+      loadLock.unlock();
+    }
+  }
+
+  /**
+   * Applies a changed data source while the application keeps serving the persisted persons.
+   * If records were only appended, just the appended data is parsed and inserted; otherwise the
+   * whole data source is read again and applied as a diff in a single transaction. Waits for a
+   * running load to finish first. A failed read leaves the persisted persons and the stored
+   * fingerprint unchanged.
+   */
+  public void reloadData() {
+    loadLock.lock();
+    try {
+      // Fingerprinted before reading, so a change made while reading is loaded the next time.
+      Optional<String> fingerprint = incremental ? dataSourceReader.fingerprint()
+          : Optional.empty();
+      Optional<List<Person>> appended = fullSyncRequired
+          ? Optional.empty() : dataSourceReader.readAppended(NO_PROGRESS);
+      if (appended.isPresent()) {
+        if (!appended.get().isEmpty()) {
+          insertPersons(appended.get(), saved -> {
+          });
+          eventPublisher.publishEvent(PersonsChangedEvent.added(appended.get()));
+        }
+        log.info("Data source appended. Loaded {} new records.", appended.get().size());
+      } else {
+        List<Person> personList = dataSourceReader.readData();
+        if (personList.isEmpty()) {
+          log.warn("No data to load. The person list is empty, keeping the persisted persons.");
+          return;
+        }
+        PersonDiff diff = personSyncService.synchronize(personList, saved -> {
+        });
+        eventPublisher.publishEvent(PersonsChangedEvent.reloaded());
+        log.info("Data source changed. Applied {} inserts, {} updates and {} deletes.",
+            diff.getInserts().size(), diff.getUpdateCount(), diff.getDeletes().size());
+      }
+      storeFingerprint(fingerprint);
+      fullSyncRequired = false;
+    } catch (Exception e) {
+      fullSyncRequired = true;
+      log.error("Unexpected error occurred during data reloading: {}", e.getMessage(), e);
+    } finally {
+      loadLock.unlock();
     }
   }
 
   /**
-   * Persists a list of Person entities in the database.
+   * Skips the load if the data source has the same fingerprint as the last loaded one. Otherwise
+   * reads it and applies only the inserted, updated and deleted records, or saves all records if
+   * nothing has been persisted yet. The fingerprint is stored once the changes are committed, so
+   * an interrupted load is simply diffed again on the next run. A failed read throws before
+   * anything is changed, so the persons after the failure are never deleted as missing.
+   *
+   * @return The event describing the change.
+   */
+  private PersonsChangedEvent loadIncrementally() {
+    Optional<String> fingerprint = dataSourceReader.fingerprint();
+    Optional<DataSourceFingerprint> previous = fingerprintRepository.findById(FINGERPRINT_NAME);
+    if (fingerprint.isPresent()
+        && fingerprint.equals(previous.map(DataSourceFingerprint::getSha256))) {
+      log.info("Data source unchanged since {}, skipping the load.",
+          previous.get().getLoadedAt());
+      return PersonsChangedEvent.reloaded();
+    }
+
+    List<Person> personList = dataSourceReader.readData(dataLoadProgress);
+    if (personList.isEmpty()) {
+      log.warn("No data to load. The person list is empty, keeping the persisted persons.");
+      return PersonsChangedEvent.reloaded();
+    }
+    PersonsChangedEvent event = PersonsChangedEvent.reloaded();
+    if (personRepository.count() == 0) {
+      event = savePersons(personList);
+    } else {
+      dataLoadProgress.savingStarted();
+      PersonDiff diff = personSyncService.synchronize(personList,
+          dataLoadProgress::recordsSaved);
+      log.info("Applied {} inserts, {} updates and {} deletes.", diff.getInserts().size(),
+          diff.getUpdateCount(), diff.getDeletes().size());
+    }
+    storeFingerprint(fingerprint);
+    log.info("Data successfully loaded. Total records: {}", personList.size());
+    return event;
+  }
+
+  private void storeFingerprint(Optional<String> fingerprint) {
+    fingerprint.ifPresent(sha256 -> fingerprintRepository.save(
+        new DataSourceFingerprint(FINGERPRINT_NAME, sha256, Instant.now())));
+  }
+
+  /**
+   * Replaces the persisted persons with a list of Person entities using the configured load
+   * mode. The table is truncated in the same transaction as the persons are inserted, so a
+   * failed load keeps the persisted persons. An empty list keeps the persisted persons.
    *
    * @param personList List of Person entities to save.
+   * @return The event describing the change, carrying the saved persons.
    */
-  private void savePersons(List<Person> personList) {
+  private PersonsChangedEvent savePersons(List<Person> personList) {
     if (personList == null || personList.isEmpty()) {
       log.warn("No data to load. The person list is empty or null.");
-      return;
+      return PersonsChangedEvent.reloaded();
+    }
+    dataLoadProgress.savingStarted();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    LoadMode mode = replacePersons(personList, dataLoadProgress::recordsSaved);
+    long nanos = sample.stop(Timer.builder("persons.load.save")
+        .description("Time spent saving the records of a full load")
+        .tag("mode", mode.name().toLowerCase(Locale.ROOT))
+        .register(meterRegistry));
+    double seconds = nanos / 1_000_000_000d;
+    lastRowsPerSecond.set(Math.round(personList.size() / seconds));
+    log.info("Saved {} records in {} s ({} rows/s)", personList.size(),
+        String.format("%.2f", seconds), lastRowsPerSecond.get());
+    return PersonsChangedEvent.replaced(personList);
+  }
+
+  /**
+   * Truncates the table and inserts new Person entities in one transaction using the configured
+   * load mode.
+   *
+   * @param personList   List of Person entities to save.
+   * @param recordsSaved Receives the number of records persisted with each batch.
+   * @return The load mode the persons were saved with, JPA if COPY was not available.
+   */
+  private LoadMode replacePersons(List<Person> personList, IntConsumer recordsSaved) {
+    if (loadMode == LoadMode.COPY && copyPersons(personList, true, recordsSaved)) {
+      return LoadMode.COPY;
+    }
+    transactionTemplate.executeWithoutResult(status -> {
+      personRepository.truncate();
+      personRepository.saveInBatches(personList, recordsSaved);
+    });
+    return LoadMode.JPA;
+  }
+
+  /**
+   * Inserts new Person entities using the configured load mode.
+   *
+   * @param personList   List of Person entities to save.
+   * @param recordsSaved Receives the number of records persisted with each batch.
+   * @return The load mode the persons were saved with, JPA if COPY was not available.
+   */
+  private LoadMode insertPersons(List<Person> personList, IntConsumer recordsSaved) {
+    if (loadMode == LoadMode.COPY && copyPersons(personList, false, recordsSaved)) {
+      return LoadMode.COPY;
+    }
+    personRepository.saveInBatches(personList, recordsSaved);
+    return LoadMode.JPA;
+  }
+
+  /**
+   * Bulk loads the persons with COPY.
+   *
+   * @param personList   List of Person entities to save.
+   * @param replace      Whether the persisted persons are removed in the same transaction.
+   * @param recordsSaved Receives the number of records persisted.
+   * @return false if COPY is not available and the persons still have to be saved.
+   */
+  private boolean copyPersons(List<Person> personList, boolean replace,
+      IntConsumer recordsSaved) {
+    try {
+      if (replace) {
+        personCopyRepository.replaceAll(personList);
+      } else {
+        personCopyRepository.copyAll(personList);
+      }
+      recordsSaved.accept(personList.size());
+      return true;
+    } catch (SQLException e) {
+      log.warn("COPY is not available, falling back to JPA batch inserts: {}", e.getMessage());
+      return false;
     }
-    personRepository.saveAll(personList);
   }
 }
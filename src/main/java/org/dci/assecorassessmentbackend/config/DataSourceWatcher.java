@@ -0,0 +1,115 @@
+package org.dci.assecorassessmentbackend.config;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Watches the CSV data source on the filesystem and reloads it when it changes.
+ *
+ * <p>The directory containing the file is watched, so the file may also be replaced by a rename.
+ * Writers usually produce several events for one change, so a reload only starts once no further
+ * event arrived for the debounce period.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.data.watch.enabled", havingValue = "true")
+public class DataSourceWatcher {
+
+  private final DataLoader dataLoader;
+  private final String filePath;
+  private final Duration debounce;
+
+  private WatchService watchService;
+
+  /**
+   * Constructor-based dependency injection for DataSourceWatcher.
+   *
+   * @param dataLoader Loader applying the changed data source.
+   * @param filePath   Path of the watched CSV file.
+   * @param debounce   Quiet period after the last change before the file is reloaded.
+   */
+  public DataSourceWatcher(DataLoader dataLoader,
+      @Value("${app.data.file-path:}") String filePath,
+      @Value("${app.data.watch.debounce:500ms}") Duration debounce) {
+    this.dataLoader = dataLoader;
+    this.filePath = filePath;
+    this.debounce = debounce;
+  }
+
+  /**
+   * Starts watching once the application is up.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() throws IOException {
+    if (filePath == null || filePath.isBlank()) {
+      log.warn("Watching is enabled, but no data file is configured; the classpath sample is "
+          + "not watched.");
+      return;
+    }
+    Path file = Path.of(filePath).toAbsolutePath();
+    watchService = FileSystems.getDefault().newWatchService();
+    file.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+    Thread.ofPlatform().name("data-source-watcher").daemon().start(() -> watch(file));
+    log.info("Watching {} for changes", file);
+  }
+
+  @PreDestroy
+  public void stop() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
+  }
+
+  private void watch(Path file) {
+    try {
+      while (true) {
+        if (!isChanged(watchService.take(), file)) {
+          continue;
+        }
+        WatchKey key;
+        while ((key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+          isChanged(key, file);
+        }
+        log.info("Data source {} changed, reloading.", file);
+        dataLoader.reloadData();
+      }
+    } catch (ClosedWatchServiceException e) {
+      log.debug("Stopped watching {}", file);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Consumes the events of the key and returns whether one of them concerns the file.
+   */
+  private static boolean isChanged(WatchKey key, Path file) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      changed |= event.kind() == OVERFLOW || file.getFileName().equals(event.context());
+    }
+    if (!key.reset()) {
+      log.warn("Directory of {} is no longer accessible, stopped watching.", file);
+      throw new ClosedWatchServiceException();
+    }
+    return changed;
+  }
+}
@@ -0,0 +1,15 @@
+package org.dci.assecorassessmentbackend.config;
+
+/**
+ * Enum representing the ways DataLoader can persist the data source.
+ */
+public enum LoadMode {
+  /**
+   * Batched JPA inserts.
+   */
+  JPA,
+  /**
+   * PostgreSQL {@code COPY}, falling back to {@link #JPA} if it is not available.
+   */
+  COPY
+}
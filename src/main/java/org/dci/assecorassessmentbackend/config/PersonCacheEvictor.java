@@ -0,0 +1,58 @@
+package org.dci.assecorassessmentbackend.config;
+
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.PersonsChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached lookups affected by written persons once the write has been committed.
+ */
+@Slf4j
+@Component
+public class PersonCacheEvictor {
+
+  private final Cache personById;
+  private final Cache personsByColor;
+
+  /**
+   * Constructor-based dependency injection for PersonCacheEvictor.
+   *
+   * @param cacheManager Cache manager holding the person caches.
+   */
+  public PersonCacheEvictor(CacheManager cacheManager) {
+    this.personById = Objects.requireNonNull(cacheManager.getCache(CacheConfig.PERSON_BY_ID));
+    this.personsByColor = Objects.requireNonNull(
+        cacheManager.getCache(CacheConfig.PERSONS_BY_COLOR));
+  }
+
+  /**
+   * Evicts only the color lists the added persons belong to, persons without a color being in
+   * none of them; lookups by ID are unaffected by inserts since missing persons are not cached. A
+   * reset clears both caches. Runs before the data versions advance, so that a new version is
+   * never answered with a list cached for an older one.
+   *
+   * @param event The change.
+   */
+  @Order(Ordered.LOWEST_PRECEDENCE - 1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPersonsChanged(PersonsChangedEvent event) {
+    if (event.reset()) {
+      log.debug("Clearing person caches");
+      personById.clear();
+      personsByColor.clear();
+      return;
+    }
+    event.addedPersons().stream()
+        .map(Person::getColor)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(personsByColor::evict);
+  }
+}
@@ -0,0 +1,123 @@
+package org.dci.assecorassessmentbackend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.service.PersonDataVersion;
+import org.dci.assecorassessmentbackend.service.PersonDataVersion.Version;
+import org.dci.assecorassessmentbackend.service.PersonResponseCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Adds a strong {@code ETag} and a {@code Last-Modified} header to {@code GET /persons} and
+ * {@code GET /persons/color/{color}} and answers conditional requests for an unchanged list with
+ * 304 Not Modified, before the list is read or mapped at all.
+ *
+ * <p>The validators are derived from the {@link PersonDataVersion} of the requested list, so a
+ * color list keeps its validators while persons of other colors are added. The entity tag also
+ * identifies the representation, JSON array or NDJSON and gzip-compressed or not, since these
+ * differ in their bytes. Requests with query parameters are passed on unchanged.
+ *
+ * <p>Runs before the {@link PersonResponseCacheFilter}.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class PersonConditionalGetFilter extends OncePerRequestFilter {
+
+  private static final String PERSONS_PATH = "/persons";
+  private static final String COLOR_PATH_PREFIX = "/persons/color/";
+
+  private final PersonDataVersion personDataVersion;
+  private final ObjectProvider<PersonResponseCache> personResponseCache;
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+  /**
+   * Constructor-based dependency injection for PersonConditionalGetFilter.
+   *
+   * @param personDataVersion   Versions of the person lists.
+   * @param personResponseCache Cache of the serialized person lists, if enabled; decides whether
+   *                            lists are sent gzip-compressed.
+   */
+  public PersonConditionalGetFilter(PersonDataVersion personDataVersion,
+      ObjectProvider<PersonResponseCache> personResponseCache) {
+    this.personDataVersion = personDataVersion;
+    this.personResponseCache = personResponseCache;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.GET.matches(request.getMethod()) || request.getQueryString() != null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    Version version = lookup(urlPathHelper.getPathWithinApplication(request));
+    String representation = representation(request);
+    if (version == null || representation == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    String eTag = "\"" + version.tag() + representation + "\"";
+    if (new ServletWebRequest(request, response).checkNotModified(eTag, version.lastModified())) {
+      if (representation.endsWith("-gzip")) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      }
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * Returns the version of the list at a path, or {@code null} if the path is not a list.
+   */
+  private Version lookup(String path) {
+    if (PERSONS_PATH.equals(path)) {
+      return personDataVersion.ofAllPersons();
+    }
+    if (path.startsWith(COLOR_PATH_PREFIX)) {
+      try {
+        return personDataVersion.ofColor(
+            Color.fromDisplayName(path.substring(COLOR_PATH_PREFIX.length())));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the suffix of the entity tag identifying the representation the request will be
+   * answered with, or {@code null} if it cannot be told.
+   */
+  private String representation(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (PersonResponseCacheFilter.acceptsJson(accept)) {
+      PersonResponseCache cache = personResponseCache.getIfAvailable();
+      boolean gzip = cache != null && cache.isGzipEnabled()
+          && PersonResponseCacheFilter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+      return gzip ? "-gzip" : "";
+    }
+    try {
+      return MediaType.parseMediaTypes(accept).stream()
+          .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON))
+          ? "-ndjson" : null;
+    } catch (InvalidMediaTypeException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package org.dci.assecorassessmentbackend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.service.PersonResponseCache;
+import org.dci.assecorassessmentbackend.service.PersonResponseCache.CachedResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Answers {@code GET /persons} and {@code GET /persons/color/{color}} from the
+ * {@link PersonResponseCache}, writing the prepared body without entering the controller.
+ *
+ * <p>Only plain JSON list requests are served; requests with query parameters, for
+ * newline-delimited JSON or for an unknown color are passed on unchanged. Requests for a list too
+ * large to be cached are passed on as {@code ?stream=true} requests, so that the controller
+ * streams the list instead of collecting it in memory.
+ */
+@Component
+@ConditionalOnProperty(name = "app.response-cache.enabled", havingValue = "true")
+public class PersonResponseCacheFilter extends OncePerRequestFilter {
+
+  private static final String PERSONS_PATH = "/persons";
+  private static final String COLOR_PATH_PREFIX = "/persons/color/";
+
+  private final PersonResponseCache personResponseCache;
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+  /**
+   * Constructor-based dependency injection for PersonResponseCacheFilter.
+   *
+   * @param personResponseCache Cache of the serialized person lists.
+   */
+  public PersonResponseCacheFilter(PersonResponseCache personResponseCache) {
+    this.personResponseCache = personResponseCache;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !HttpMethod.GET.matches(request.getMethod()) || request.getQueryString() != null
+        || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    CachedResponse cached = lookup(urlPathHelper.getPathWithinApplication(request));
+    if (cached == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    if (cached.tooLarge()) {
+      filterChain.doFilter(new StreamingRequest(request), response);
+      return;
+    }
+
+    byte[] body = cached.json();
+    if (personResponseCache.isGzipEnabled()) {
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        body = cached.gzip();
+      }
+    }
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+
+  /**
+   * Returns the cached body for a list path, or {@code null} if the path is not a cached list.
+   */
+  private CachedResponse lookup(String path) {
+    if (PERSONS_PATH.equals(path)) {
+      return personResponseCache.getAllPersons();
+    }
+    if (path.startsWith(COLOR_PATH_PREFIX)) {
+      try {
+        Color color = Color.fromDisplayName(path.substring(COLOR_PATH_PREFIX.length()));
+        return personResponseCache.getPersonsByColor(color);
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Whether the list handlers would answer with a JSON array rather than NDJSON.
+   */
+  static boolean acceptsJson(String accept) {
+    if (accept == null) {
+      return true;
+    }
+    try {
+      List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+      return mediaTypes.stream().anyMatch(mediaType -> mediaType.includes(
+          MediaType.APPLICATION_JSON))
+          && mediaTypes.stream().noneMatch(mediaType -> mediaType.equalsTypeAndSubtype(
+          MediaType.APPLICATION_NDJSON));
+    } catch (InvalidMediaTypeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Whether the gzip content coding is acceptable according to an Accept-Encoding header.
+   */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Request asking for the list to be streamed, as if {@code ?stream=true} had been given.
+   */
+  private static final class StreamingRequest extends HttpServletRequestWrapper {
+
+    private static final String STREAM = "stream";
+    private static final String[] TRUE = {"true"};
+
+    private StreamingRequest(HttpServletRequest request) {
+      super(request);
+    }
+
+    @Override
+    public String getQueryString() {
+      return STREAM + "=" + TRUE[0];
+    }
+
+    @Override
+    public String getParameter(String name) {
+      return STREAM.equals(name) ? TRUE[0] : super.getParameter(name);
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+      return STREAM.equals(name) ? TRUE.clone() : super.getParameterValues(name);
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+      Map<String, String[]> parameters = new LinkedHashMap<>(super.getParameterMap());
+      parameters.put(STREAM, TRUE.clone());
+      return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+      return Collections.enumeration(getParameterMap().keySet());
+    }
+  }
+}
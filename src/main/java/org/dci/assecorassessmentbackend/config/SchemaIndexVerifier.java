@@ -0,0 +1,113 @@
+package org.dci.assecorassessmentbackend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails the start of the application if an index declared in the {@link Table} annotation of an
+ * entity is missing from the database or covers other columns.
+ *
+ * <p>Tables and columns are validated by Hibernate ({@code spring.jpa.hibernate.ddl-auto=validate})
+ * and the applied migrations by Flyway, but neither checks indexes; without this check a dropped
+ * or changed index would only show up as slow queries.
+ */
+@Slf4j
+@Component
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final DataSource dataSource;
+
+  /**
+   * Constructor-based dependency injection for SchemaIndexVerifier.
+   *
+   * @param entityManagerFactory Factory whose entities declare the expected indexes.
+   * @param dataSource           Data source of the migrated schema.
+   */
+  public SchemaIndexVerifier(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    List<String> problems = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection()) {
+      DatabaseMetaData metaData = connection.getMetaData();
+      for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+        Table table = entity.getJavaType().getAnnotation(Table.class);
+        if (table == null || table.indexes().length == 0) {
+          continue;
+        }
+        Map<String, List<String>> actual = indexes(metaData, table.name());
+        for (Index index : table.indexes()) {
+          List<String> expected = columns(index.columnList());
+          List<String> found = actual.get(index.name().toLowerCase(Locale.ROOT));
+          if (found == null) {
+            problems.add("missing index " + index.name() + " on " + table.name() + expected);
+          } else if (!found.equals(expected)) {
+            problems.add("index " + index.name() + " on " + table.name() + " covers " + found
+                + " instead of " + expected);
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read the indexes of the schema", e);
+    }
+
+    if (!problems.isEmpty()) {
+      throw new IllegalStateException("Schema has drifted from the entities: "
+          + String.join("; ", problems));
+    }
+    log.debug("All declared indexes are present");
+  }
+
+  /**
+   * Reads the columns of every index of a table, in index order, keyed by the lower-case index
+   * name.
+   */
+  private static Map<String, List<String>> indexes(DatabaseMetaData metaData, String table)
+      throws SQLException {
+    Map<String, TreeMap<Integer, String>> columns = new HashMap<>();
+    for (String name : new String[] {table, table.toUpperCase(Locale.ROOT)}) {
+      try (ResultSet resultSet = metaData.getIndexInfo(null, null, name, false, false)) {
+        while (resultSet.next()) {
+          String index = resultSet.getString("INDEX_NAME");
+          String column = resultSet.getString("COLUMN_NAME");
+          if (index != null && column != null) {
+            columns.computeIfAbsent(index.toLowerCase(Locale.ROOT), key -> new TreeMap<>())
+                .put((int) resultSet.getShort("ORDINAL_POSITION"),
+                    column.toLowerCase(Locale.ROOT));
+          }
+        }
+      }
+    }
+    Map<String, List<String>> indexes = new HashMap<>();
+    columns.forEach((index, byPosition) -> indexes.put(index, List.copyOf(byPosition.values())));
+    return indexes;
+  }
+
+  private static List<String> columns(String columnList) {
+    List<String> columns = new ArrayList<>();
+    for (String column : columnList.split(",")) {
+      columns.add(column.trim().toLowerCase(Locale.ROOT));
+    }
+    return columns;
+  }
+}
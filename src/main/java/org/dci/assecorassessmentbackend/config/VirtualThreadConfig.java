@@ -0,0 +1,58 @@
+package org.dci.assecorassessmentbackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for running requests and the background data load on virtual threads, enabled with
+ * {@code spring.threads.virtual.enabled=true}.
+ *
+ * <p>Tomcat then starts a virtual thread per request instead of limiting concurrent requests to
+ * its worker pool, so nothing bounds how many of them block on JDBC at the same time. The
+ * connection pool is therefore wrapped in a {@link ConnectionLimitingDataSource} with one permit
+ * per pooled connection. The wrapper is a Spring {@code DelegatingDataSource}, whose
+ * {@code unwrap} and {@code isWrapperFor} reach the Hikari pool, so its metrics and pool metadata
+ * are still found. What remains bounding the requests in flight is
+ * {@code server.tomcat.max-connections}, and every one of them holds its buffers and stack on the
+ * heap while waiting, so the heap has to be sized for that many requests.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  /**
+   * Pool size Hikari falls back to when {@code maximum-pool-size} is not set; the setting only
+   * receives its default when the pool starts.
+   */
+  private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+  /**
+   * Wraps the Hikari pool in a data source limiting concurrent connections to its maximum pool
+   * size, waiting at most its connection timeout for a permit.
+   *
+   * @return The post processor wrapping the pool.
+   */
+  @Bean
+  public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+          int maxConnections = hikari.getMaximumPoolSize() > 0
+              ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+          log.info("Limiting concurrent database connections to {} for virtual threads",
+              maxConnections);
+          return new ConnectionLimitingDataSource(hikari, maxConnections,
+              hikari.getConnectionTimeout());
+        }
+        return bean;
+      }
+    };
+  }
+}
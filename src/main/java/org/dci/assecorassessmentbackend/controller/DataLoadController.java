@@ -0,0 +1,34 @@
+package org.dci.assecorassessmentbackend.controller;
+
+import org.dci.assecorassessmentbackend.config.DataLoadProgress;
+import org.dci.assecorassessmentbackend.dto.DataLoadStatusDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/data-load")
+public class DataLoadController {
+
+  private final DataLoadProgress dataLoadProgress;
+
+  /**
+   * Constructor-based dependency injection for DataLoadController.
+   *
+   * @param dataLoadProgress Progress of the background data load.
+   */
+  public DataLoadController(DataLoadProgress dataLoadProgress) {
+    this.dataLoadProgress = dataLoadProgress;
+  }
+
+  /**
+   * Retrieves the progress of the background data load.
+   *
+   * @return ResponseEntity containing the DataLoadStatusDto and HTTP status 200.
+   */
+  @GetMapping("/status")
+  public ResponseEntity<DataLoadStatusDto> getStatus() {
+    return ResponseEntity.ok(dataLoadProgress.toStatus());
+  }
+}
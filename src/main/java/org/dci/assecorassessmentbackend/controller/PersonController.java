@@ -1,32 +1,67 @@
 package org.dci.assecorassessmentbackend.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.coyote.BadRequestException;
+import org.dci.assecorassessmentbackend.dto.PersonBatchResultDto;
 import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
 import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.dto.PersonPageDto;
+import org.dci.assecorassessmentbackend.dto.PersonStatsDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.service.PersonBatchService;
+import org.dci.assecorassessmentbackend.service.PersonSearchService;
 import org.dci.assecorassessmentbackend.service.PersonService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/persons")
 public class PersonController {
 
   private final PersonService personService;
+  private final PersonBatchService personBatchService;
+  private final PersonSearchService personSearchService;
+  private final ObjectMapper objectMapper;
 
   /**
    * Constructor-based dependency injection for PersonController.
    *
-   * @param personService Service responsible for handling person-related operations.
+   * @param personService       Service responsible for handling person-related operations.
+   * @param personBatchService  Service creating many persons at once.
+   * @param personSearchService Service searching persons by zip code.
+   * @param objectMapper        Mapper used to read and write streamed bodies.
    */
-  public PersonController(PersonService personService) {
+  public PersonController(PersonService personService, PersonBatchService personBatchService,
+      PersonSearchService personSearchService, ObjectMapper objectMapper) {
     this.personService = personService;
+    this.personBatchService = personBatchService;
+    this.personSearchService = personSearchService;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -40,6 +75,94 @@ public class PersonController {
     return ResponseEntity.ok(results);
   }
 
+  /**
+   * Retrieves a page of persons in ID order.
+   *
+   * @param limit Maximum number of persons on the page.
+   * @param after Token of the previous page; the first page is returned when absent.
+   * @return ResponseEntity containing the page with the token of the next page and HTTP status
+   * 200.
+   */
+  @GetMapping(params = "limit")
+  public ResponseEntity<PersonPageDto> getPersonsPage(@RequestParam("limit") int limit,
+      @RequestParam(name = "after", required = false) String after) throws BadRequestException {
+    PersonPageDto page = personService.getPersonsPage(limit, after);
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * Streams all persons as newline-delimited JSON, one object per line, without collecting them
+   * in memory first.
+   *
+   * @return ResponseEntity writing all persons as NDJSON and HTTP status 200.
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamAllPersonsAsNdJson() {
+    return stream(MediaType.APPLICATION_NDJSON, false, personService::streamAllPersons);
+  }
+
+  /**
+   * Streams all persons as a JSON array without collecting them in memory first.
+   *
+   * @return ResponseEntity writing all persons as a JSON array and HTTP status 200.
+   */
+  @GetMapping(params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> streamAllPersons() {
+    return stream(MediaType.APPLICATION_JSON, true, personService::streamAllPersons);
+  }
+
+  /**
+   * Retrieves a page of the persons whose zip code starts with a prefix or lies in a range, in
+   * zip code and ID order, e.g. {@code /persons/search?zipPrefix=677} or
+   * {@code /persons/search?zipFrom=10000&zipTo=14999&color=blau}.
+   *
+   * @param zipPrefix Leading digits of the zip code; excludes {@code zipFrom} and {@code zipTo}.
+   * @param zipFrom   Smallest zip code, inclusive.
+   * @param zipTo     Largest zip code, inclusive.
+   * @param color     The color to filter by; any color when absent.
+   * @param limit     Maximum number of persons on the page.
+   * @param after     Token of the previous page; the first page is returned when absent.
+   * @return ResponseEntity containing the page with the token of the next page and HTTP status
+   * 200.
+   */
+  @GetMapping("/search")
+  public ResponseEntity<PersonPageDto> searchPersons(
+      @RequestParam(name = "zipPrefix", required = false) String zipPrefix,
+      @RequestParam(name = "zipFrom", required = false) String zipFrom,
+      @RequestParam(name = "zipTo", required = false) String zipTo,
+      @RequestParam(name = "color", required = false) String color,
+      @RequestParam(name = "limit", defaultValue = "100") int limit,
+      @RequestParam(name = "after", required = false) String after) throws BadRequestException {
+    PersonPageDto page = personSearchService.searchByZipCode(zipPrefix, zipFrom, zipTo, color,
+        limit, after);
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * Retrieves the persons whose first name, last name or city match a query best, for type-ahead
+   * lookups, e.g. {@code /persons/search?q=mül}.
+   *
+   * @param query The query.
+   * @param limit Maximum number of persons to return.
+   * @return ResponseEntity containing the best matches, best first, and HTTP status 200.
+   */
+  @GetMapping(value = "/search", params = "q")
+  public ResponseEntity<List<PersonDto>> searchPersonsByName(@RequestParam("q") String query,
+      @RequestParam(name = "limit", defaultValue = "10") int limit) throws BadRequestException {
+    List<PersonDto> persons = personSearchService.searchByName(query, limit);
+    return ResponseEntity.ok(persons);
+  }
+
+  /**
+   * Retrieves the number of persons per color, city and two-digit zip code region.
+   *
+   * @return ResponseEntity containing the counts and HTTP status 200.
+   */
+  @GetMapping("/stats")
+  public ResponseEntity<PersonStatsDto> getStatistics() {
+    return ResponseEntity.ok(personService.getStatistics());
+  }
+
   /**
    * Retrieves a person by their ID.
    *
@@ -65,6 +188,51 @@ public class PersonController {
     return ResponseEntity.ok(personsByColor);
   }
 
+  /**
+   * Retrieves a page of persons with a specific color in ID order.
+   *
+   * @param color The color to filter by.
+   * @param limit Maximum number of persons on the page.
+   * @param after Token of the previous page; the first page is returned when absent.
+   * @return ResponseEntity containing the page with the token of the next page and HTTP status
+   * 200.
+   */
+  @GetMapping(value = "/color/{color}", params = "limit")
+  public ResponseEntity<PersonPageDto> getPersonsPageByColor(@PathVariable("color") String color,
+      @RequestParam("limit") int limit,
+      @RequestParam(name = "after", required = false) String after) throws BadRequestException {
+    PersonPageDto page = personService.getPersonsPageByColor(color, limit, after);
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * Streams all persons with a specific color as newline-delimited JSON.
+   *
+   * @param color The color to filter by.
+   * @return ResponseEntity writing the matching persons as NDJSON and HTTP status 200.
+   */
+  @GetMapping(value = "/color/{color}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamPersonsByColorAsNdJson(
+      @PathVariable("color") String color) {
+    Color colorEnum = personService.resolveColor(color);
+    return stream(MediaType.APPLICATION_NDJSON, false,
+        consumer -> personService.streamPersonsByColor(colorEnum, consumer));
+  }
+
+  /**
+   * Streams all persons with a specific color as a JSON array.
+   *
+   * @param color The color to filter by.
+   * @return ResponseEntity writing the matching persons as a JSON array and HTTP status 200.
+   */
+  @GetMapping(value = "/color/{color}", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> streamPersonsByColor(
+      @PathVariable("color") String color) {
+    Color colorEnum = personService.resolveColor(color);
+    return stream(MediaType.APPLICATION_JSON, true,
+        consumer -> personService.streamPersonsByColor(colorEnum, consumer));
+  }
+
   /**
    * Creates a new person.
    *
@@ -77,4 +245,105 @@ public class PersonController {
     PersonDto personDto = personService.createPerson(personCreateDto);
     return ResponseEntity.status(HttpStatus.CREATED).body(personDto);
   }
+
+  /**
+   * Creates all persons of a JSON array. The array is read element by element and rejected as
+   * soon as it holds more persons than a batch may have.
+   *
+   * @param body The request body.
+   * @return ResponseEntity containing the outcome of every person and HTTP status 201, or 207 if
+   * some persons were not created.
+   */
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<PersonBatchResultDto> createPersons(InputStream body)
+      throws IOException {
+    ObjectReader reader = objectMapper.readerFor(PersonCreateDto.class);
+    List<PersonCreateDto> persons = new ArrayList<>();
+    try (JsonParser parser = objectMapper.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new BadRequestException("Expected a JSON array of persons");
+      }
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        personBatchService.checkSize(persons.size() + 1);
+        persons.add(reader.readValue(parser));
+      }
+    } catch (JsonProcessingException e) {
+      throw new BadRequestException("Malformed JSON array of persons: " + e.getOriginalMessage());
+    }
+    return batchResponse(personBatchService.createPersons(persons));
+  }
+
+  /**
+   * Creates all persons of a newline-delimited JSON body, one object per line. Lines that cannot
+   * be read are reported as failed persons; blank lines are skipped. The body is rejected as soon
+   * as it holds more persons than a batch may have.
+   *
+   * @param body The request body.
+   * @return ResponseEntity containing the outcome of every person and HTTP status 201, or 207 if
+   * some persons were not created.
+   */
+  @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<PersonBatchResultDto> createPersonsFromNdJson(InputStream body)
+      throws IOException {
+    ObjectReader reader = objectMapper.readerFor(PersonCreateDto.class);
+    List<PersonCreateDto> persons = new ArrayList<>();
+    BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    String line;
+    while ((line = lines.readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      personBatchService.checkSize(persons.size() + 1);
+      try {
+        persons.add(reader.readValue(line));
+      } catch (JsonProcessingException e) {
+        persons.add(null);
+      }
+    }
+    return batchResponse(personBatchService.createPersons(persons));
+  }
+
+  private static ResponseEntity<PersonBatchResultDto> batchResponse(PersonBatchResultDto result) {
+    HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    return ResponseEntity.status(status).body(result);
+  }
+
+  /**
+   * Writes the persons produced by {@code source} to the response while they are read.
+   *
+   * @param mediaType Content type of the response.
+   * @param array     Whether the persons are wrapped in a JSON array instead of being written
+   *                  one per line.
+   * @param source    Passes every person to the given consumer.
+   * @return ResponseEntity streaming the persons.
+   */
+  private ResponseEntity<StreamingResponseBody> stream(MediaType mediaType, boolean array,
+      Consumer<Consumer<PersonDto>> source) {
+    ObjectWriter writer = objectMapper.writerFor(PersonDto.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    StreamingResponseBody body = out -> {
+      try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+        generator.setRootValueSeparator(null);
+        if (array) {
+          generator.writeStartArray();
+        }
+        source.accept(personDto -> {
+          try {
+            writer.writeValue(generator, personDto);
+            if (!array) {
+              generator.writeRaw('\n');
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+        if (array) {
+          generator.writeEndArray();
+        }
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+    return ResponseEntity.ok().contentType(mediaType).body(body);
+  }
 }
@@ -0,0 +1,19 @@
+package org.dci.assecorassessmentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DataLoadStatusDto {
+
+  private String state;
+  private long recordsParsed;
+  private long recordsSaved;
+  private long recordsRejected;
+  private Long elapsedMillis;
+  private Long etaMillis;
+  private String error;
+}
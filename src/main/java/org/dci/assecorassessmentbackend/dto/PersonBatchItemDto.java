@@ -0,0 +1,25 @@
+package org.dci.assecorassessmentbackend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single person of a batch: its ID if it was created, otherwise the reason it was
+ * not.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PersonBatchItemDto {
+
+  /**
+   * Position of the person in the request, starting at 0.
+   */
+  private int index;
+
+  private Long id;
+  private String error;
+}
@@ -0,0 +1,20 @@
+package org.dci.assecorassessmentbackend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PersonBatchResultDto {
+
+  private int created;
+  private int failed;
+
+  /**
+   * Outcome of every person of the batch in request order.
+   */
+  private List<PersonBatchItemDto> items;
+}
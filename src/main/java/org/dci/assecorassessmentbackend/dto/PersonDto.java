@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.dci.assecorassessmentbackend.model.Color;
 
 @Data
 @AllArgsConstructor
@@ -20,4 +21,21 @@ public class PersonDto {
   private String zipCode;
   private String city;
   private String color;
+
+  /**
+   * Creates a PersonDto directly from the columns of a person, used by the constructor
+   * expressions of the projection queries. The color comes second, so that the parameter types
+   * differ from the all-arguments constructor even when the color is {@code null}.
+   *
+   * @param id        The ID.
+   * @param color     The color, written as its display name.
+   * @param firstName The first name.
+   * @param lastName  The last name.
+   * @param zipCode   The zip code.
+   * @param city      The city.
+   */
+  public PersonDto(Long id, Color color, String firstName, String lastName, String zipCode,
+      String city) {
+    this(id, firstName, lastName, zipCode, city, color == null ? null : color.getDisplayName());
+  }
 }
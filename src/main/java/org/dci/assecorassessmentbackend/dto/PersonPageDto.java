@@ -0,0 +1,19 @@
+package org.dci.assecorassessmentbackend.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PersonPageDto {
+
+  private List<PersonDto> items;
+
+  /**
+   * Token to pass as {@code after} to get the next page, or {@code null} on the last page.
+   */
+  private String next;
+}
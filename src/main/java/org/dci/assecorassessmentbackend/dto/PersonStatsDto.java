@@ -0,0 +1,47 @@
+package org.dci.assecorassessmentbackend.dto;
+
+import java.util.Collections;
+import java.util.Map;
+import lombok.Value;
+
+/**
+ * Immutable counts of the persons, so that one instance can be shared by all callers until the
+ * persons change.
+ */
+@Value
+public class PersonStatsDto {
+
+  long total;
+
+  /**
+   * Number of persons per color display name, for every color.
+   */
+  Map<String, Long> byColor;
+
+  /**
+   * Number of persons per city, ordered by city.
+   */
+  Map<String, Long> byCity;
+
+  /**
+   * Number of persons per first two digits of the zip code, ordered by region.
+   */
+  Map<String, Long> byZipRegion;
+
+  /**
+   * Creates the counts from maps that are no longer modified by the caller; they are exposed as
+   * unmodifiable views to keep their order.
+   *
+   * @param total       Number of persons.
+   * @param byColor     Number of persons per color display name.
+   * @param byCity      Number of persons per city.
+   * @param byZipRegion Number of persons per zip code region.
+   */
+  public PersonStatsDto(long total, Map<String, Long> byColor, Map<String, Long> byCity,
+      Map<String, Long> byZipRegion) {
+    this.total = total;
+    this.byColor = Collections.unmodifiableMap(byColor);
+    this.byCity = Collections.unmodifiableMap(byCity);
+    this.byZipRegion = Collections.unmodifiableMap(byZipRegion);
+  }
+}
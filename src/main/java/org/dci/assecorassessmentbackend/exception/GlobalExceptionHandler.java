@@ -2,11 +2,15 @@ package org.dci.assecorassessmentbackend.exception;
 
 import org.apache.coyote.BadRequestException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+/**
+ * Errors are always written as JSON, also for requests that only accept the NDJSON streams.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -15,7 +19,8 @@ public class GlobalExceptionHandler {
   public ResponseEntity<ApiException> handleResourceNotFoundException(ResourceNotFoundException ex,
       WebRequest request) {
     ApiException apiError = new ApiException(ex.getMessage(), request.getDescription(false));
-    return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON)
+        .body(apiError);
   }
 
   // Handle BadRequestException
@@ -23,13 +28,26 @@ public class GlobalExceptionHandler {
   public ResponseEntity<ApiException> handleBadRequestException(BadRequestException ex,
       WebRequest request) {
     ApiException apiError = new ApiException(ex.getMessage(), request.getDescription(false));
-    return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON)
+        .body(apiError);
+  }
+
+  // Handle ServiceUnavailableException
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ApiException> handleServiceUnavailableException(
+      ServiceUnavailableException ex, WebRequest request) {
+    ApiException apiError = new ApiException(ex.getMessage(), request.getDescription(false));
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(apiError);
   }
 
   // Handle other exceptions (generic)
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ApiException> handleGlobalException(Exception ex, WebRequest request) {
     ApiException apiError = new ApiException(ex.getMessage(), request.getDescription(false));
-    return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
+    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(apiError);
   }
 }
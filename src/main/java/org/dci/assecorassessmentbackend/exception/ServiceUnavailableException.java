@@ -0,0 +1,11 @@
+package org.dci.assecorassessmentbackend.exception;
+
+/**
+ * Thrown when a request cannot be answered for the time being, e.g. while an index is rebuilt.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+}
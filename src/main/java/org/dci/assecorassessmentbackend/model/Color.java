@@ -12,6 +12,8 @@ public enum Color {
   TUERKIS(6, "türkis"),
   WEISS(7, "weiß");
 
+  private static final Color[] VALUES = values();
+
   private final int code;
   private final String displayName;
 
@@ -34,7 +36,7 @@ public enum Color {
    * @throws IllegalArgumentException if no color matches the given code.
    */
   public static Color fromCode(int code) {
-    for (Color color : Color.values()) {
+    for (Color color : VALUES) {
       if (color.getCode() == code) {
         return color;
       }
@@ -50,7 +52,7 @@ public enum Color {
    * @throws IllegalArgumentException if no color matches the given display name.
    */
   public static Color fromDisplayName(String displayName) {
-    for (Color color : Color.values()) {
+    for (Color color : VALUES) {
       if (color.getDisplayName().equalsIgnoreCase(displayName)) {
         return color;
       }
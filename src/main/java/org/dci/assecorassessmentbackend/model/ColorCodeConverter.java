@@ -0,0 +1,22 @@
+package org.dci.assecorassessmentbackend.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Persists a {@link Color} as its numeric code, the value the CSV data source carries, in a
+ * {@code smallint} column.
+ */
+@Converter
+public class ColorCodeConverter implements AttributeConverter<Color, Short> {
+
+  @Override
+  public Short convertToDatabaseColumn(Color color) {
+    return color == null ? null : (short) color.getCode();
+  }
+
+  @Override
+  public Color convertToEntityAttribute(Short code) {
+    return code == null ? null : Color.fromCode(code);
+  }
+}
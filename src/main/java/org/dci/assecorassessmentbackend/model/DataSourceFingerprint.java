@@ -0,0 +1,30 @@
+package org.dci.assecorassessmentbackend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Content hash of the data source as of the last successful load.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "data_source_fingerprints")
+public class DataSourceFingerprint {
+
+  @Id
+  private String name;
+
+  @Column(length = 64, nullable = false)
+  private String sha256;
+
+  private Instant loadedAt;
+
+}
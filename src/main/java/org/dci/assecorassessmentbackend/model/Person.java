@@ -1,11 +1,12 @@
 package org.dci.assecorassessmentbackend.model;
 
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,11 +16,15 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "persons")
+@Table(name = "persons", indexes = {
+    @Index(name = "idx_persons_color_id", columnList = "color, id"),
+    @Index(name = "idx_persons_zip_code", columnList = "zip_code"),
+    @Index(name = "idx_persons_last_name_first_name", columnList = "last_name, first_name")})
 public class Person {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "persons_seq")
+  @SequenceGenerator(name = "persons_seq", sequenceName = "persons_seq", allocationSize = 50)
   private Long id;
 
   private String firstName;
@@ -27,7 +32,10 @@ public class Person {
   private String zipCode;
   private String city;
 
-  @Enumerated(EnumType.STRING)
+  /**
+   * Stored as the {@code smallint} color code, so that the color index and the rows stay small.
+   */
+  @Convert(converter = ColorCodeConverter.class)
   private Color color;
 
 }
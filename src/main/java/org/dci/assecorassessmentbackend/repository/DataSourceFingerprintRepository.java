@@ -0,0 +1,11 @@
+package org.dci.assecorassessmentbackend.repository;
+
+import org.dci.assecorassessmentbackend.model.DataSourceFingerprint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DataSourceFingerprintRepository extends
+    JpaRepository<DataSourceFingerprint, String> {
+
+}
@@ -0,0 +1,31 @@
+package org.dci.assecorassessmentbackend.repository;
+
+import java.util.function.IntConsumer;
+import org.dci.assecorassessmentbackend.model.Person;
+
+public interface PersonBatchRepository {
+
+  /**
+   * Placeholder of the number of rows written per JDBC batch or statement, with its default.
+   */
+  String BATCH_SIZE = "${app.data.batch-size:1000}";
+
+  /**
+   * Persists new Person entities using JDBC batching. The persistence context is flushed and
+   * cleared after every batch, so the saved entities are detached afterwards.
+   *
+   * @param persons New Person entities to save.
+   */
+  default void saveInBatches(Iterable<Person> persons) {
+    saveInBatches(persons, saved -> {
+    });
+  }
+
+  /**
+   * Persists new Person entities using JDBC batching and reports every flushed batch.
+   *
+   * @param persons    New Person entities to save.
+   * @param batchSaved Receives the number of entities flushed with each batch.
+   */
+  void saveInBatches(Iterable<Person> persons, IntConsumer batchSaved);
+}
@@ -0,0 +1,49 @@
+package org.dci.assecorassessmentbackend.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.function.IntConsumer;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+public class PersonBatchRepositoryImpl implements PersonBatchRepository {
+
+  private final EntityManager entityManager;
+  private final int batchSize;
+
+  /**
+   * Constructor-based dependency injection for PersonBatchRepositoryImpl.
+   *
+   * @param entityManager Shared entity manager.
+   * @param batchSize     Number of entities sent per JDBC batch and kept in the persistence
+   *                      context between flushes.
+   */
+  public PersonBatchRepositoryImpl(EntityManager entityManager,
+      @Value(BATCH_SIZE) int batchSize) {
+    this.entityManager = entityManager;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  @Transactional
+  public void saveInBatches(Iterable<Person> persons, IntConsumer batchSaved) {
+    int pending = 0;
+    for (Person person : persons) {
+      entityManager.persist(person);
+      if (++pending == batchSize) {
+        flushAndClear();
+        batchSaved.accept(pending);
+        pending = 0;
+      }
+    }
+    flushAndClear();
+    if (pending > 0) {
+      batchSaved.accept(pending);
+    }
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+}
@@ -0,0 +1,178 @@
+package org.dci.assecorassessmentbackend.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk loads persons with the PostgreSQL {@code COPY} protocol.
+ */
+@Repository
+public class PersonCopyRepository {
+
+  private static final String COPY_SQL = "COPY persons (id, first_name, last_name, zip_code, "
+      + "city, color) FROM STDIN WITH (FORMAT csv)";
+  private static final String TRUNCATE_SQL = "TRUNCATE TABLE persons";
+  private static final String ALLOCATE_IDS_SQL =
+      "SELECT nextval('persons_seq') FROM generate_series(1, ?)";
+
+  /**
+   * Must match the allocation size of the {@code persons_seq} generator on {@link Person}.
+   */
+  private static final int ID_ALLOCATION_SIZE = 50;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataSource dataSource;
+
+  /**
+   * Constructor-based dependency injection for PersonCopyRepository.
+   *
+   * @param dataSource Data source of the persons table.
+   */
+  public PersonCopyRepository(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Streams new persons into the {@code persons} table in a single transaction. Ids are reserved
+   * from {@code persons_seq} in the same blocks the pooled JPA generator uses, so rows inserted
+   * through JPA afterwards cannot collide with them. The ids are set on the given entities only
+   * once the transaction has been committed.
+   *
+   * @param persons New Person entities to insert.
+   * @throws SQLException if the data source is not PostgreSQL or the copy fails.
+   */
+  public void copyAll(List<Person> persons) throws SQLException {
+    copy(persons, false);
+  }
+
+  /**
+   * Replaces all persons with new ones: the table is truncated on the COPY connection in the same
+   * transaction, so a failed copy keeps the previous persons. Ids are reserved and set as by
+   * {@link #copyAll(List)}.
+   *
+   * @param persons New Person entities to insert.
+   * @throws SQLException if the data source is not PostgreSQL or the copy fails.
+   */
+  public void replaceAll(List<Person> persons) throws SQLException {
+    copy(persons, true);
+  }
+
+  private void copy(List<Person> persons, boolean truncate) throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      PGConnection pgConnection = connection.unwrap(PGConnection.class);
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try {
+        if (truncate) {
+          try (Statement statement = connection.createStatement()) {
+            statement.execute(TRUNCATE_SQL);
+          }
+        }
+        long[] ids = allocateIds(connection, persons.size());
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(COPY_SQL);
+        try {
+          writeRows(copyIn, persons, ids);
+          copyIn.endCopy();
+        } finally {
+          if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+          }
+        }
+        connection.commit();
+
+        for (int i = 0; i < persons.size(); i++) {
+          persons.get(i).setId(ids[i]);
+        }
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  /**
+   * Reserves {@code count} ids. Every {@code nextval} result {@code v} owns the ids
+   * {@code v - 49 .. v}, which is how Hibernate's pooled optimizer interprets it.
+   */
+  private static long[] allocateIds(Connection connection, int count) throws SQLException {
+    long[] ids = new long[count];
+    int assigned = 0;
+    try (PreparedStatement statement = connection.prepareStatement(ALLOCATE_IDS_SQL)) {
+      while (assigned < count) {
+        statement.setInt(1, (count - assigned) / ID_ALLOCATION_SIZE + 1);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next() && assigned < count) {
+            long hi = resultSet.getLong(1);
+            for (long id = Math.max(1, hi - ID_ALLOCATION_SIZE + 1); id <= hi && assigned < count;
+                id++) {
+              ids[assigned++] = id;
+            }
+          }
+        }
+      }
+    }
+    return ids;
+  }
+
+  private static void writeRows(CopyIn copyIn, List<Person> persons, long[] ids)
+      throws SQLException {
+    StringBuilder rows = new StringBuilder(BUFFER_SIZE);
+    for (int i = 0; i < persons.size(); i++) {
+      Person person = persons.get(i);
+      rows.append(ids[i]).append(',');
+      appendText(rows, person.getFirstName()).append(',');
+      appendText(rows, person.getLastName()).append(',');
+      appendText(rows, person.getZipCode()).append(',');
+      appendText(rows, person.getCity()).append(',');
+      if (person.getColor() != null) {
+        rows.append(person.getColor().getCode());
+      }
+      rows.append('\n');
+
+      if (rows.length() >= BUFFER_SIZE) {
+        flush(copyIn, rows);
+      }
+    }
+    flush(copyIn, rows);
+  }
+
+  /**
+   * Appends a CSV value. Values are always quoted so that empty strings are not read as NULL.
+   */
+  private static StringBuilder appendText(StringBuilder rows, String value) {
+    if (value == null) {
+      return rows;
+    }
+    rows.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        rows.append('"');
+      }
+      rows.append(c);
+    }
+    return rows.append('"');
+  }
+
+  private static void flush(CopyIn copyIn, StringBuilder rows) throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    byte[] bytes = rows.toString().getBytes(UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    rows.setLength(0);
+  }
+}
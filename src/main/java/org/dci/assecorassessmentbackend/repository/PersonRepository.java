@@ -1,13 +1,184 @@
 package org.dci.assecorassessmentbackend.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
 import org.dci.assecorassessmentbackend.model.Color;
 import org.dci.assecorassessmentbackend.model.Person;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface PersonRepository extends JpaRepository<Person, Long> {
+public interface PersonRepository extends JpaRepository<Person, Long>, PersonBatchRepository {
 
-  List<Person> findByColor(Color color);
+  /**
+   * Number of rows fetched per round trip when streaming.
+   */
+  String STREAM_FETCH_SIZE = "1000";
+
+  /**
+   * Constructor expression selecting a PersonDto from a person {@code p}.
+   */
+  String SELECT_DTO = "select new org.dci.assecorassessmentbackend.dto.PersonDto(p.id,"
+      + " p.color, p.firstName, p.lastName, p.zipCode, p.city) from Person p";
+
+  /**
+   * Retrieves all persons as PersonDto ordered by ID. No entities are created, so nothing is
+   * added to the persistence context or checked for changes.
+   *
+   * @return All persons.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+  @Query(SELECT_DTO + " order by p.id")
+  List<PersonDto> findAllDtos();
+
+  /**
+   * Retrieves a person as PersonDto without creating an entity.
+   *
+   * @param id The ID of the person.
+   * @return The person, or empty if there is none with this ID.
+   */
+  @Query(SELECT_DTO + " where p.id = :id")
+  Optional<PersonDto> findDtoById(@Param("id") Long id);
+
+  /**
+   * Retrieves the persons with the given color as PersonDto ordered by ID, without creating
+   * entities.
+   *
+   * @param color The color to filter by.
+   * @return The matching persons.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+  @Query(SELECT_DTO + " where p.color = :color order by p.id")
+  List<PersonDto> findDtosByColor(@Param("color") Color color);
+
+  /**
+   * Retrieves the persons with the given IDs as PersonDto, without creating entities.
+   *
+   * @param ids The IDs of the persons.
+   * @return The persons that exist, in no particular order.
+   */
+  @Query(SELECT_DTO + " where p.id in :ids")
+  List<PersonDto> findDtosByIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Retrieves the persons following an ID as PersonDto in ID order, i.e. a keyset page.
+   *
+   * @param afterId The last ID of the previous page.
+   * @param limit   Maximum number of persons to return.
+   * @return The persons with a greater ID.
+   */
+  @Query(SELECT_DTO + " where p.id > :afterId order by p.id")
+  List<PersonDto> findDtoPage(@Param("afterId") Long afterId, Limit limit);
+
+  /**
+   * Retrieves the persons with the given color following an ID as PersonDto in ID order, i.e. a
+   * keyset page.
+   *
+   * @param color   The color to filter by.
+   * @param afterId The last ID of the previous page.
+   * @param limit   Maximum number of persons to return.
+   * @return The matching persons with a greater ID.
+   */
+  @Query(SELECT_DTO + " where p.color = :color and p.id > :afterId order by p.id")
+  List<PersonDto> findDtoPageByColor(@Param("color") Color color,
+      @Param("afterId") Long afterId, Limit limit);
+
+  /**
+   * Retrieves the persons with a five-character zip code up to {@code to}, following a zip code
+   * and ID as PersonDto in zip code and ID order, i.e. a keyset page of a zip code range.
+   *
+   * @param afterZip Zip code of the last person of the previous page, or the start of the range.
+   * @param afterId  ID of the last person of the previous page, or 0 to include
+   *                 {@code afterZip}.
+   * @param to       Largest zip code, inclusive.
+   * @param limit    Maximum number of persons to return.
+   * @return The matching persons.
+   */
+  @Query(SELECT_DTO + " where length(p.zipCode) = 5 and p.zipCode >= :afterZip"
+      + " and p.zipCode <= :to and (p.zipCode > :afterZip or p.id > :afterId)"
+      + " order by p.zipCode, p.id")
+  List<PersonDto> findZipCodeRangePage(@Param("afterZip") String afterZip,
+      @Param("afterId") Long afterId, @Param("to") String to, Limit limit);
+
+  /**
+   * Retrieves the persons with the given color and a five-character zip code up to {@code to},
+   * following a zip code and ID as PersonDto in zip code and ID order.
+   *
+   * @param color    The color to filter by.
+   * @param afterZip Zip code of the last person of the previous page, or the start of the range.
+   * @param afterId  ID of the last person of the previous page, or 0 to include
+   *                 {@code afterZip}.
+   * @param to       Largest zip code, inclusive.
+   * @param limit    Maximum number of persons to return.
+   * @return The matching persons.
+   */
+  @Query(SELECT_DTO + " where p.color = :color and length(p.zipCode) = 5"
+      + " and p.zipCode >= :afterZip and p.zipCode <= :to"
+      + " and (p.zipCode > :afterZip or p.id > :afterId) order by p.zipCode, p.id")
+  List<PersonDto> findZipCodeRangePageByColor(@Param("color") Color color,
+      @Param("afterZip") String afterZip, @Param("afterId") Long afterId, @Param("to") String to,
+      Limit limit);
+
+  /**
+   * Streams all person entities ordered by ID through a database cursor, for rebuilding the
+   * in-memory indexes. Must be consumed inside a transaction; the entities should be detached as
+   * they are consumed.
+   *
+   * @return Stream of all persons.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+  @Query("select p from Person p order by p.id")
+  Stream<Person> streamAll();
+
+  /**
+   * Streams all persons as PersonDto ordered by ID through a database cursor, without creating
+   * entities. Must be consumed inside a transaction.
+   *
+   * @return Stream of all persons.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+  @Query(SELECT_DTO + " order by p.id")
+  Stream<PersonDto> streamAllDtos();
+
+  /**
+   * Streams the persons with the given color as PersonDto ordered by ID through a database
+   * cursor, without creating entities. Must be consumed inside a transaction.
+   *
+   * @param color The color to filter by.
+   * @return Stream of the matching persons.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+  @Query(SELECT_DTO + " where p.color = :color order by p.id")
+  Stream<PersonDto> streamDtosByColor(@Param("color") Color color);
+
+  /**
+   * Sets the color of the given persons without loading them.
+   *
+   * @param color The new color.
+   * @param ids   IDs of the persons to update.
+   * @return The number of updated rows.
+   */
+  @Modifying
+  @Query("update Person p set p.color = :color where p.id in :ids")
+  int updateColor(@Param("color") Color color, @Param("ids") Collection<Long> ids);
+
+  /**
+   * Removes all persons at once, without loading or deleting them row by row. The ID sequence
+   * is left as it is.
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "TRUNCATE TABLE persons", nativeQuery = true)
+  void truncate();
 }
@@ -1,15 +1,28 @@
 package org.dci.assecorassessmentbackend.service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.dci.assecorassessmentbackend.model.Color;
 import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
@@ -18,47 +31,209 @@ import org.springframework.stereotype.Service;
 public class CsvFileReader implements DataSourceReader {
 
   private static final String FILE_PATH = "sample-input.csv";
-  private static final String CSV_DELIMITER = ",";
-  private static final int EXPECTED_COLUMNS = 4;
-  private static final Pattern ZIP_CODE_PATTERN = Pattern.compile("^(\\d{5})\\s+(.+)$");
+  private static final int EXPECTED_COLUMNS = CsvRecordParser.EXPECTED_COLUMNS;
+
+  private final String filePath;
+  private final boolean parallel;
+  private final int parallelism;
+  private final boolean trackAppends;
+  private final CsvReaderMetrics metrics;
+
+  /**
+   * Where the last read of the file ended, or {@code null} if appended data cannot be parsed on
+   * its own.
+   */
+  private volatile AppendState appendState;
+
+  /**
+   * Creates a reader for the bundled classpath {@code sample-input.csv}.
+   *
+   * @param meterRegistry Registry of the lines, records and rejections read.
+   */
+  public CsvFileReader(MeterRegistry meterRegistry) {
+    this(null, meterRegistry);
+  }
+
+  /**
+   * Creates a sequential reader for a CSV file on the filesystem.
+   *
+   * @param filePath      Path of the CSV file; the bundled classpath {@code sample-input.csv} is
+   *                      used when empty.
+   * @param meterRegistry Registry of the lines, records and rejections read.
+   */
+  public CsvFileReader(String filePath, MeterRegistry meterRegistry) {
+    this(filePath, false, 0, false, meterRegistry);
+  }
+
+  /**
+   * Creates a reader for a CSV file on the filesystem that records its reads in a registry.
+   *
+   * @param filePath      Path of the CSV file; the bundled classpath {@code sample-input.csv} is
+   *                      used when empty.
+   * @param parallel      Whether files on the filesystem are parsed in chunks on several
+   *                      threads.
+   * @param parallelism   Number of parser threads; the number of available processors when not
+   *                      positive.
+   * @param trackAppends  Whether reads of a file on the filesystem remember where they ended, so
+   *                      that {@link #readAppended(DataSourceListener)} can parse appended data
+   *                      only.
+   * @param meterRegistry Registry of the lines, records and rejections read.
+   */
+  @Autowired
+  public CsvFileReader(@Value("${app.data.file-path:}") String filePath,
+      @Value("${app.data.parallel.enabled:false}") boolean parallel,
+      @Value("${app.data.parallel.parallelism:0}") int parallelism,
+      @Value("${app.data.watch.enabled:false}") boolean trackAppends,
+      MeterRegistry meterRegistry) {
+    this.filePath = filePath;
+    this.parallel = parallel;
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    this.trackAppends = trackAppends;
+    this.metrics = new CsvReaderMetrics(meterRegistry);
+  }
 
   @Override
   public List<Person> readData() {
+    return readData(new DataSourceListener() {
+    });
+  }
+
+  @Override
+  public List<Person> readData(DataSourceListener listener) {
     List<Person> persons = new ArrayList<>();
-    try (BufferedReader reader = new BufferedReader(
-        new InputStreamReader(new ClassPathResource(FILE_PATH).getInputStream()))) {
-
-      String line;
-      String previousLine = null;
-
-      while ((line = reader.readLine()) != null) {
-        Optional<String> mergedLine = mergeMultiLineData(line, previousLine);
-        if (mergedLine.isEmpty()) {
-          previousLine = line;
-          log.info("There is multiline data: {}", previousLine);
-          continue;
-        }
+    readData(person -> {
+      persons.add(person);
+      listener.onRecordParsed(person);
+    }, listener::onRecordRejected);
+    return persons;
+  }
 
-        String[] parts = mergedLine.get().split(CSV_DELIMITER);
-        if (parts.length != EXPECTED_COLUMNS) {
-          log.warn("Invalid line format: {}", mergedLine.get());
-          continue;
-        }
+  /**
+   * Streams every successfully parsed person to the consumer without collecting them first.
+   *
+   * @param consumer Receives the parsed persons in file order.
+   * @throws UncheckedIOException if the file cannot be read completely; the persons parsed up to
+   *                              the failure have been passed to the consumer.
+   */
+  public void readData(Consumer<Person> consumer) {
+    readData(consumer, reason -> {
+    });
+  }
 
-        try {
-          Person person = parsePerson(parts);
-          persons.add(person);
-          previousLine = null;
-        } catch (IllegalArgumentException e) {
-          log.warn("Failed to parse person data: {}", e.getMessage());
+  private void readData(Consumer<Person> consumer, Consumer<RejectionReason> rejections) {
+    appendState = null;
+    boolean tracked = trackAppends && !isClassPathSource();
+    if (parallel && !isClassPathSource()) {
+      CsvReaderMetrics.Read read = metrics.start("parallel", consumer, rejections);
+      try {
+        ParallelCsvReader.Result result =
+            new ParallelCsvReader(parallelism, ParallelCsvReader.MIN_CHUNK_SIZE)
+                .read(Path.of(filePath), read::parsed, read::rejected);
+        read.finish(result.lines(), result.multiLineRecords());
+        if (tracked) {
+          appendState = hashPrefix(result.length(), result.pendingLine());
         }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Error reading CSV file " + filePath, e);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
       }
+      return;
+    }
 
-    } catch (Exception e) {
-      log.error("Error reading CSV file: {}", e.getMessage(), e);
+    CsvReaderMetrics.Read read = metrics.start("sequential", consumer, rejections);
+    CsvRecordParser parser = new CsvRecordParser(read::parsed, read::rejected);
+    try (InputStream in = openDataSource()) {
+      TrackingInputStream digestIn = new TrackingInputStream(in, tracked ? sha256() : null);
+      parser.parse(digestIn);
+      if (tracked) {
+        appendState = digestIn.toAppendState(parser.pendingLine());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error reading CSV file "
+          + (isClassPathSource() ? FILE_PATH : filePath), e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    } finally {
+      read.finish(parser.lines(), parser.multiLineRecords());
     }
+  }
 
-    return persons;
+  /**
+   * Parses only the data appended to the file since the last read, provided the previously read
+   * bytes are unchanged and ended with a complete line. A record that was still waiting for its
+   * continuation at the end of the last read is completed with the appended lines.
+   *
+   * @param listener Receives progress notifications.
+   * @return The persons parsed from the appended data, or empty if the file has to be read again
+   *     completely.
+   */
+  @Override
+  public Optional<List<Person>> readAppended(DataSourceListener listener) {
+    AppendState state = appendState;
+    if (state == null) {
+      return Optional.empty();
+    }
+    try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+      if (channel.size() < state.length()) {
+        return Optional.empty();
+      }
+      TrackingInputStream in = new TrackingInputStream(Channels.newInputStream(channel), sha256());
+      in.skipExactly(state.length());
+      if (!Arrays.equals(in.peekDigest(), state.digest())) {
+        return Optional.empty();
+      }
+
+      List<Person> persons = new ArrayList<>();
+      CsvReaderMetrics.Read read = metrics.start("appended", person -> {
+        persons.add(person);
+        listener.onRecordParsed(person);
+      }, listener::onRecordRejected);
+      CsvRecordParser parser = new CsvRecordParser(read::parsed, read::rejected);
+      if (state.pendingLine() != null) {
+        parser.resumeWithPendingLine(state.pendingLine());
+      }
+      parser.parse(in);
+      read.finish(parser.lines(), parser.multiLineRecords());
+      appendState = in.toAppendState(parser.pendingLine());
+      return Optional.of(persons);
+    } catch (IOException | NoSuchAlgorithmException e) {
+      log.warn("Failed to read appended CSV data: {}", e.getMessage());
+      appendState = null;
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Hashes the first {@code length} bytes of the file after a parallel read.
+   */
+  private AppendState hashPrefix(long length, byte[] pendingLine)
+      throws IOException, NoSuchAlgorithmException {
+    try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+      TrackingInputStream in = new TrackingInputStream(Channels.newInputStream(channel), sha256());
+      in.skipExactly(length);
+      return in.toAppendState(pendingLine);
+    }
+  }
+
+  private static MessageDigest sha256() throws NoSuchAlgorithmException {
+    return MessageDigest.getInstance("SHA-256");
+  }
+
+  @Override
+  public Optional<String> fingerprint() {
+    try (InputStream in = openDataSource()) {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] buffer = new byte[64 * 1024];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+      return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    } catch (IOException | NoSuchAlgorithmException e) {
+      log.warn("Failed to fingerprint CSV file: {}", e.getMessage());
+      return Optional.empty();
+    }
   }
 
   /**
@@ -67,7 +242,7 @@ public class CsvFileReader implements DataSourceReader {
   public Optional<String> mergeMultiLineData(String line, String previousLine) {
     if (previousLine != null) {
       return Optional.of(previousLine + " " + line.trim());
-    } else if (line.trim().isEmpty() || line.split(CSV_DELIMITER).length < EXPECTED_COLUMNS) {
+    } else if (line.trim().isEmpty() || CsvRecordParser.countColumns(line) < EXPECTED_COLUMNS) {
       return Optional.empty();
     }
     return Optional.of(line);
@@ -90,36 +265,121 @@ public class CsvFileReader implements DataSourceReader {
   }
 
   /**
-   * Extracts the zip code using a regex pattern.
+   * Extracts the leading five digit zip code.
    */
   public String extractZipCode(String cityZipCodePart) {
-    Matcher matcher = ZIP_CODE_PATTERN.matcher(cityZipCodePart);
-    if (matcher.find()) {
-      return matcher.group(1);
-    }
-    throw new IllegalArgumentException("Invalid zip code format: " + cityZipCodePart);
+    return CsvRecordParser.extractZipCode(cityZipCodePart);
   }
 
   /**
-   * Extracts the city name using a regex pattern.
+   * Extracts the city name following the zip code.
    */
   public String extractCity(String cityZipCodePart) {
-    Matcher matcher = ZIP_CODE_PATTERN.matcher(cityZipCodePart);
-    if (matcher.find()) {
-      return matcher.group(2).replaceAll("-\\*$", "").trim();
-    }
-    throw new IllegalArgumentException("Invalid city format: " + cityZipCodePart);
+    return CsvRecordParser.extractCity(cityZipCodePart);
   }
 
   /**
    * Parses the color from a numeric string value.
    */
   public Color parseColor(String colorNumber) {
-    try {
-      int colorCode = Integer.parseInt(colorNumber);
-      return Color.fromCode(colorCode);
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("Invalid color number: " + colorNumber);
+    return CsvRecordParser.parseColor(colorNumber);
+  }
+
+  private InputStream openDataSource() throws IOException {
+    if (isClassPathSource()) {
+      return new ClassPathResource(FILE_PATH).getInputStream();
+    }
+    return Files.newInputStream(Path.of(filePath));
+  }
+
+  private boolean isClassPathSource() {
+    return filePath == null || filePath.isBlank();
+  }
+
+  /**
+   * End of the last read: the number of bytes read, their SHA-256 and the line that was still
+   * waiting for its continuation, if any.
+   */
+  private record AppendState(long length, byte[] digest, byte[] pendingLine) {
+
+  }
+
+  /**
+   * Counts and optionally hashes the bytes read, remembering the last one.
+   */
+  private static final class TrackingInputStream extends FilterInputStream {
+
+    private final MessageDigest digest;
+    private long count;
+    private int lastByte = -1;
+
+    private TrackingInputStream(InputStream in, MessageDigest digest) {
+      super(in);
+      this.digest = digest;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        update(new byte[]{(byte) b}, 0, 1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        update(b, off, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) {
+      throw new UnsupportedOperationException("Skipped bytes would not be hashed");
+    }
+
+    private void update(byte[] b, int off, int len) {
+      if (digest != null) {
+        digest.update(b, off, len);
+      }
+      count += len;
+      lastByte = b[off + len - 1];
+    }
+
+    /**
+     * Reads and hashes exactly {@code length} bytes.
+     */
+    private void skipExactly(long length) throws IOException {
+      byte[] buffer = new byte[64 * 1024];
+      while (count < length) {
+        int read = read(buffer, 0, (int) Math.min(buffer.length, length - count));
+        if (read < 0) {
+          throw new IOException("File is shorter than " + length + " bytes");
+        }
+      }
+    }
+
+    private byte[] peekDigest() {
+      try {
+        return ((MessageDigest) digest.clone()).digest();
+      } catch (CloneNotSupportedException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    /**
+     * Appended data can only be parsed on its own if the bytes read so far ended with a line
+     * feed; after a carriage return the appended data might start with the line feed of the same
+     * terminator, and without a terminator the last line might continue.
+     */
+    private AppendState toAppendState(byte[] pendingLine) {
+      if (count > 0 && lastByte != '\n') {
+        return null;
+      }
+      return new AppendState(count, digest.digest(), pendingLine);
     }
   }
 }
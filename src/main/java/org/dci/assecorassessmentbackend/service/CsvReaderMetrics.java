@@ -0,0 +1,117 @@
+package org.dci.assecorassessmentbackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * Meters of the CSV import: lines read, records parsed, lines merged into multi-line records,
+ * records rejected by reason and the time spent reading.
+ *
+ * <p>A read is tallied in plain fields on the reading thread and added to the meters once it has
+ * finished, so the parser does not touch a shared meter per record.
+ */
+@Slf4j
+final class CsvReaderMetrics {
+
+  private final MeterRegistry registry;
+  private final Counter linesRead;
+  private final Counter recordsParsed;
+  private final Counter multiLineRecords;
+  private final Map<RejectionReason, Counter> recordsRejected = new EnumMap<>(
+      RejectionReason.class);
+
+  CsvReaderMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    this.linesRead = Counter.builder("csv.lines.read")
+        .description("Lines read from the CSV data source")
+        .register(registry);
+    this.recordsParsed = Counter.builder("csv.records.parsed")
+        .description("Records parsed into persons")
+        .register(registry);
+    this.multiLineRecords = Counter.builder("csv.records.multiline")
+        .description("Lines merged with the line before them into one record")
+        .register(registry);
+    for (RejectionReason reason : RejectionReason.values()) {
+      recordsRejected.put(reason, Counter.builder("csv.records.rejected")
+          .description("Records skipped as invalid")
+          .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+          .register(registry));
+    }
+  }
+
+  /**
+   * Starts tallying a read.
+   *
+   * @param mode       How the data is read, e.g. {@code sequential}; tags the read timer.
+   * @param consumer   Receives the parsed persons.
+   * @param rejections Receives the reasons of the rejected records.
+   * @return The tally, to be passed the parsed and rejected records and finished at the end.
+   */
+  Read start(String mode, Consumer<Person> consumer, Consumer<RejectionReason> rejections) {
+    return new Read(mode, consumer, rejections);
+  }
+
+  /**
+   * Tally of one read. Not thread-safe; the parsers deliver all records on the reading thread.
+   */
+  final class Read {
+
+    private final String mode;
+    private final Consumer<Person> consumer;
+    private final Consumer<RejectionReason> rejections;
+    private final long[] rejected = new long[RejectionReason.values().length];
+    private final Timer.Sample sample = Timer.start(registry);
+    private long parsed;
+
+    private Read(String mode, Consumer<Person> consumer, Consumer<RejectionReason> rejections) {
+      this.mode = mode;
+      this.consumer = consumer;
+      this.rejections = rejections;
+    }
+
+    void parsed(Person person) {
+      parsed++;
+      consumer.accept(person);
+    }
+
+    void rejected(RejectionReason reason) {
+      rejected[reason.ordinal()]++;
+      rejections.accept(reason);
+    }
+
+    /**
+     * Adds the tally to the meters and logs a summary of the rejected records.
+     *
+     * @param lines            Number of lines read.
+     * @param multiLineRecords Number of lines merged with the line before them.
+     */
+    void finish(long lines, long multiLineRecords) {
+      sample.stop(Timer.builder("csv.read")
+          .description("Time spent reading and parsing the CSV data source")
+          .tag("mode", mode)
+          .register(registry));
+      linesRead.increment(lines);
+      recordsParsed.increment(parsed);
+      CsvReaderMetrics.this.multiLineRecords.increment(multiLineRecords);
+      long total = 0;
+      for (RejectionReason reason : RejectionReason.values()) {
+        recordsRejected.get(reason).increment(rejected[reason.ordinal()]);
+        total += rejected[reason.ordinal()];
+      }
+      if (total > 0) {
+        log.warn("Skipped {} invalid records: {} with a wrong column count, {} with an invalid "
+                + "zip code, {} with an invalid color", total,
+            rejected[RejectionReason.COLUMN_COUNT.ordinal()],
+            rejected[RejectionReason.ZIP_CODE.ordinal()],
+            rejected[RejectionReason.COLOR.ordinal()]);
+      }
+    }
+  }
+}
@@ -0,0 +1,469 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * Single-pass CSV tokenizer working directly on UTF-8 encoded bytes.
+ *
+ * <p>Lines are split on {@code \n}, {@code \r} and {@code \r\n} like
+ * {@link java.io.BufferedReader#readLine()}, columns are located by scanning for the delimiter
+ * byte, and only the final field values are materialized as strings. Every delimiter, line
+ * terminator and whitespace character the format relies on is ASCII, so it can never occur inside
+ * a multi-byte UTF-8 sequence. The multi-line and column-count rules are the same as
+ * {@link CsvFileReader#mergeMultiLineData(String, String)} applied to {@code String.split(",")}.
+ *
+ * <p>Instances keep the multi-line state between lines and are therefore not thread-safe.
+ */
+@Slf4j
+final class CsvRecordParser {
+
+  static final int EXPECTED_COLUMNS = 4;
+  static final int ZIP_CODE_LENGTH = 5;
+
+  private static final byte DELIMITER = ',';
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Consumer<Person> consumer;
+  private final Consumer<RejectionReason> rejections;
+
+  private final int[] delimiterPositions = new int[EXPECTED_COLUMNS];
+  private int delimiters;
+  private int columns;
+  private boolean blank;
+
+  private byte[] pending = new byte[256];
+  private int pendingLength;
+  private boolean hasPending;
+  private byte[] merged = new byte[512];
+
+  private long lines;
+  private long multiLineRecords;
+
+  CsvRecordParser(Consumer<Person> consumer) {
+    this(consumer, reason -> {
+    });
+  }
+
+  CsvRecordParser(Consumer<Person> consumer, Consumer<RejectionReason> rejections) {
+    this.consumer = consumer;
+    this.rejections = rejections;
+  }
+
+  /**
+   * Reads the whole stream and passes every successfully parsed person to the consumer.
+   */
+  void parse(InputStream in) throws IOException {
+    byte[] buffer = new byte[BUFFER_SIZE];
+    int lineStart = 0;
+    int limit = 0;
+    boolean skipLineFeed = false;
+
+    while (true) {
+      if (lineStart > 0) {
+        System.arraycopy(buffer, lineStart, buffer, 0, limit - lineStart);
+        limit -= lineStart;
+        lineStart = 0;
+      }
+      if (limit == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      int scan = limit;
+      int read = in.read(buffer, limit, buffer.length - limit);
+      if (read < 0) {
+        break;
+      }
+      limit += read;
+
+      for (; scan < limit; scan++) {
+        byte b = buffer[scan];
+        if (skipLineFeed) {
+          skipLineFeed = false;
+          if (b == '\n') {
+            lineStart = scan + 1;
+            continue;
+          }
+        }
+        if (b == '\n' || b == '\r') {
+          acceptLine(buffer, lineStart, scan);
+          skipLineFeed = b == '\r';
+          lineStart = scan + 1;
+        }
+      }
+    }
+
+    if (lineStart < limit) {
+      acceptLine(buffer, lineStart, limit);
+    }
+  }
+
+  /**
+   * Processes one line without its terminator.
+   */
+  void acceptLine(byte[] buffer, int from, int to) {
+    lines++;
+    if (hasPending) {
+      multiLineRecords++;
+      int trimmedFrom = trimStart(buffer, from, to);
+      int trimmedTo = trimEnd(buffer, trimmedFrom, to);
+      int length = pendingLength + 1 + (trimmedTo - trimmedFrom);
+      if (merged.length < length) {
+        merged = new byte[Math.max(length, merged.length * 2)];
+      }
+      System.arraycopy(pending, 0, merged, 0, pendingLength);
+      merged[pendingLength] = ' ';
+      System.arraycopy(buffer, trimmedFrom, merged, pendingLength + 1, trimmedTo - trimmedFrom);
+      scanLine(merged, 0, length);
+      parseRecord(merged, 0, length);
+      return;
+    }
+
+    scanLine(buffer, from, to);
+    if (blank || columns < EXPECTED_COLUMNS) {
+      if (pending.length < to - from) {
+        pending = new byte[Math.max(to - from, pending.length * 2)];
+      }
+      System.arraycopy(buffer, from, pending, 0, to - from);
+      pendingLength = to - from;
+      hasPending = true;
+      if (log.isDebugEnabled()) {
+        log.debug("There is multiline data: {}", new String(buffer, from, to - from, UTF_8));
+      }
+      return;
+    }
+    parseRecord(buffer, from, to);
+  }
+
+  /**
+   * Returns the number of lines passed to {@link #acceptLine(byte[], int, int)}.
+   */
+  long lines() {
+    return lines;
+  }
+
+  /**
+   * Returns the number of lines that were merged with the line before them into one record.
+   */
+  long multiLineRecords() {
+    return multiLineRecords;
+  }
+
+  /**
+   * Returns whether the previous line is still waiting for its continuation.
+   */
+  boolean hasPending() {
+    return hasPending;
+  }
+
+  /**
+   * Returns a copy of the line waiting for its continuation, or {@code null} if there is none.
+   */
+  byte[] pendingLine() {
+    return hasPending ? Arrays.copyOf(pending, pendingLength) : null;
+  }
+
+  /**
+   * Continues parsing as if {@code line} had been the last line seen and was waiting for its
+   * continuation.
+   */
+  void resumeWithPendingLine(byte[] line) {
+    if (pending.length < line.length) {
+      pending = new byte[line.length];
+    }
+    System.arraycopy(line, 0, pending, 0, line.length);
+    pendingLength = line.length;
+    hasPending = true;
+  }
+
+  private void parseRecord(byte[] buffer, int from, int to) {
+    if (columns != EXPECTED_COLUMNS) {
+      if (log.isDebugEnabled()) {
+        log.debug("Invalid line format: {}", new String(buffer, from, to - from, UTF_8));
+      }
+      rejections.accept(RejectionReason.COLUMN_COUNT);
+      return;
+    }
+
+    int lastNameEnd = delimiterPositions[0];
+    int firstNameEnd = delimiterPositions[1];
+    int cityZipCodeEnd = delimiterPositions[2];
+    int colorEnd = delimiters > 3 ? delimiterPositions[3] : to;
+
+    RejectionReason reason = RejectionReason.ZIP_CODE;
+    try {
+      String lastName = trimmedString(buffer, from, lastNameEnd);
+      String firstName = trimmedString(buffer, lastNameEnd + 1, firstNameEnd);
+
+      int partFrom = trimStart(buffer, firstNameEnd + 1, cityZipCodeEnd);
+      int partTo = trimEnd(buffer, partFrom, cityZipCodeEnd);
+      String zipCode;
+      String city;
+      if (containsLineSeparator(buffer, partFrom, partTo)) {
+        String cityZipCodePart = new String(buffer, partFrom, partTo - partFrom, UTF_8);
+        zipCode = extractZipCode(cityZipCodePart);
+        city = extractCity(cityZipCodePart);
+      } else {
+        zipCode = zipCode(buffer, partFrom, partTo);
+        city = city(buffer, partFrom, partTo);
+      }
+
+      reason = RejectionReason.COLOR;
+      Color color = color(buffer, cityZipCodeEnd + 1, colorEnd);
+      consumer.accept(new Person(null, firstName, lastName, zipCode, city, color));
+      hasPending = false;
+    } catch (IllegalArgumentException e) {
+      log.debug("Failed to parse person data: {}", e.getMessage());
+      rejections.accept(reason);
+    }
+  }
+
+  /**
+   * Counts the columns {@code String.split(",")} would produce and remembers the positions of the
+   * first delimiters.
+   */
+  private void scanLine(byte[] buffer, int from, int to) {
+    int commas = 0;
+    int trailingCommas = 0;
+    boolean isBlank = true;
+    for (int i = from; i < to; i++) {
+      byte b = buffer[i];
+      if (b == DELIMITER) {
+        if (commas < EXPECTED_COLUMNS) {
+          delimiterPositions[commas] = i;
+        }
+        commas++;
+        trailingCommas++;
+      } else {
+        trailingCommas = 0;
+      }
+      if ((b & 0xFF) > ' ') {
+        isBlank = false;
+      }
+    }
+    blank = isBlank;
+    delimiters = commas;
+    columns = columnCount(commas, trailingCommas, to - from);
+  }
+
+  private String zipCode(byte[] buffer, int from, int to) {
+    if (!hasZipCodePrefix(buffer, from, to)) {
+      throw new IllegalArgumentException(
+          "Invalid zip code format: " + new String(buffer, from, to - from, UTF_8));
+    }
+    return new String(buffer, from, ZIP_CODE_LENGTH, ISO_8859_1);
+  }
+
+  private String city(byte[] buffer, int from, int to) {
+    int cityFrom = from + ZIP_CODE_LENGTH + 1;
+    int cityTo = to;
+    if (cityTo - cityFrom >= 2 && buffer[cityTo - 2] == '-' && buffer[cityTo - 1] == '*') {
+      cityTo -= 2;
+    }
+    return trimmedString(buffer, cityFrom, cityTo);
+  }
+
+  private static Color color(byte[] buffer, int from, int to) {
+    int start = trimStart(buffer, from, to);
+    int end = trimEnd(buffer, start, to);
+    int i = start;
+    boolean negative = false;
+    if (i < end && (buffer[i] == '-' || buffer[i] == '+')) {
+      negative = buffer[i] == '-';
+      i++;
+    }
+    if (i == end || end - i > 9) {
+      return parseColor(new String(buffer, start, end - start, UTF_8));
+    }
+    int code = 0;
+    for (; i < end; i++) {
+      int digit = buffer[i] - '0';
+      if (digit < 0 || digit > 9) {
+        return parseColor(new String(buffer, start, end - start, UTF_8));
+      }
+      code = code * 10 + digit;
+    }
+    return Color.fromCode(negative ? -code : code);
+  }
+
+  private static boolean hasZipCodePrefix(byte[] buffer, int from, int to) {
+    if (to - from < ZIP_CODE_LENGTH + 2) {
+      return false;
+    }
+    for (int i = from; i < from + ZIP_CODE_LENGTH; i++) {
+      if (buffer[i] < '0' || buffer[i] > '9') {
+        return false;
+      }
+    }
+    return isRegexWhitespace((char) buffer[from + ZIP_CODE_LENGTH]);
+  }
+
+  /**
+   * Detects NEL, LINE SEPARATOR and PARAGRAPH SEPARATOR, which end a regex line without being CSV
+   * line terminators. Such fields are handed to the string based rules.
+   */
+  private static boolean containsLineSeparator(byte[] buffer, int from, int to) {
+    for (int i = from; i < to - 1; i++) {
+      int b = buffer[i] & 0xFF;
+      if (b == 0xC2 && (buffer[i + 1] & 0xFF) == 0x85) {
+        return true;
+      }
+      if (b == 0xE2 && i < to - 2 && (buffer[i + 1] & 0xFF) == 0x80
+          && ((buffer[i + 2] & 0xFF) == 0xA8 || (buffer[i + 2] & 0xFF) == 0xA9)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String trimmedString(byte[] buffer, int from, int to) {
+    int start = trimStart(buffer, from, to);
+    int end = trimEnd(buffer, start, to);
+    return new String(buffer, start, end - start, UTF_8);
+  }
+
+  private static int trimStart(byte[] buffer, int from, int to) {
+    while (from < to && (buffer[from] & 0xFF) <= ' ') {
+      from++;
+    }
+    return from;
+  }
+
+  private static int trimEnd(byte[] buffer, int from, int to) {
+    while (to > from && (buffer[to - 1] & 0xFF) <= ' ') {
+      to--;
+    }
+    return to;
+  }
+
+  /**
+   * Number of elements {@code String.split(",")} returns: trailing empty strings are dropped, and
+   * input without any delimiter yields one element.
+   */
+  private static int columnCount(int commas, int trailingCommas, int length) {
+    if (commas == 0) {
+      return 1;
+    }
+    if (trailingCommas == length) {
+      return 0;
+    }
+    return commas + 1 - trailingCommas;
+  }
+
+  /**
+   * Same as {@link #columnCount(int, int, int)} for an already decoded line.
+   */
+  static int countColumns(String line) {
+    int commas = 0;
+    int trailingCommas = 0;
+    for (int i = 0; i < line.length(); i++) {
+      if (line.charAt(i) == DELIMITER) {
+        commas++;
+        trailingCommas++;
+      } else {
+        trailingCommas = 0;
+      }
+    }
+    return columnCount(commas, trailingCommas, line.length());
+  }
+
+  /**
+   * Extracts the zip code from {@code "<5 digits><whitespace><city>"}.
+   */
+  static String extractZipCode(String cityZipCodePart) {
+    if (cityEnd(cityZipCodePart) < 0) {
+      throw new IllegalArgumentException("Invalid zip code format: " + cityZipCodePart);
+    }
+    return cityZipCodePart.substring(0, ZIP_CODE_LENGTH);
+  }
+
+  /**
+   * Extracts the city from {@code "<5 digits><whitespace><city>"}, dropping a trailing
+   * {@code "-*"}.
+   */
+  static String extractCity(String cityZipCodePart) {
+    int end = cityEnd(cityZipCodePart);
+    if (end < 0) {
+      throw new IllegalArgumentException("Invalid city format: " + cityZipCodePart);
+    }
+    String city = cityZipCodePart.substring(ZIP_CODE_LENGTH + 1, end);
+    if (city.endsWith("-*")) {
+      city = city.substring(0, city.length() - 2);
+    }
+    return city.trim();
+  }
+
+  /**
+   * Parses the color from a numeric string value.
+   */
+  static Color parseColor(String colorNumber) {
+    try {
+      return Color.fromCode(Integer.parseInt(colorNumber));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid color number: " + colorNumber);
+    }
+  }
+
+  /**
+   * Returns the end of the city part of {@code "<5 digits><whitespace><city>"}, or -1 if the value
+   * does not have that shape. Mirrors {@code ^(\d{5})\s+(.+)$}: the city may not contain line
+   * terminators except for a single one at the very end, which is not part of it.
+   */
+  private static int cityEnd(String value) {
+    int length = value.length();
+    if (length < ZIP_CODE_LENGTH + 2) {
+      return -1;
+    }
+    for (int i = 0; i < ZIP_CODE_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+    }
+
+    int whitespaceEnd = ZIP_CODE_LENGTH;
+    while (whitespaceEnd < length && isRegexWhitespace(value.charAt(whitespaceEnd))) {
+      whitespaceEnd++;
+    }
+    if (whitespaceEnd == ZIP_CODE_LENGTH) {
+      return -1;
+    }
+
+    int end = length;
+    if (value.endsWith("\r\n")) {
+      end -= 2;
+    } else if (isLineTerminator(value.charAt(length - 1))) {
+      end -= 1;
+    }
+
+    int cityStart = whitespaceEnd;
+    if (cityStart >= end) {
+      // The city needs at least one character, so the whitespace run gives one back.
+      cityStart = end - 1;
+      if (cityStart < ZIP_CODE_LENGTH + 1 || isLineTerminator(value.charAt(cityStart))) {
+        return -1;
+      }
+    }
+    for (int i = cityStart; i < end; i++) {
+      if (isLineTerminator(value.charAt(i))) {
+        return -1;
+      }
+    }
+    return end;
+  }
+
+  private static boolean isRegexWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
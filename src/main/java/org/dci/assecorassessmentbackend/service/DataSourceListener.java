@@ -0,0 +1,26 @@
+package org.dci.assecorassessmentbackend.service;
+
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * Receives progress notifications while a DataSourceReader reads its source. Notifications are
+ * delivered on the reading thread and in source order.
+ */
+public interface DataSourceListener {
+
+  /**
+   * Called for every record that was parsed successfully.
+   *
+   * @param person The parsed person.
+   */
+  default void onRecordParsed(Person person) {
+  }
+
+  /**
+   * Called for every record that was skipped.
+   *
+   * @param reason Why the record was skipped.
+   */
+  default void onRecordRejected(RejectionReason reason) {
+  }
+}
@@ -1,9 +1,52 @@
 package org.dci.assecorassessmentbackend.service;
 
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 import org.dci.assecorassessmentbackend.model.Person;
 
 public interface DataSourceReader {
 
+  /**
+   * Reads the data source.
+   *
+   * @return The parsed persons.
+   * @throws UncheckedIOException if the data source cannot be read completely, so that a partial
+   *                              read is never mistaken for the whole data.
+   */
   List<Person> readData();
+
+  /**
+   * Reads the data source and reports every parsed and rejected record to the listener.
+   *
+   * @param listener Receives progress notifications.
+   * @return The parsed persons.
+   * @throws UncheckedIOException if the data source cannot be read completely.
+   */
+  default List<Person> readData(DataSourceListener listener) {
+    List<Person> persons = readData();
+    persons.forEach(listener::onRecordParsed);
+    return persons;
+  }
+
+  /**
+   * Computes a hash of the current content of the data source, so that an unchanged source does
+   * not have to be read again.
+   *
+   * @return The hex encoded SHA-256 of the source, or empty if the source cannot be hashed.
+   */
+  default Optional<String> fingerprint() {
+    return Optional.empty();
+  }
+
+  /**
+   * Reads only the records added to the data source since the last read.
+   *
+   * @param listener Receives progress notifications.
+   * @return The added persons, or empty if the data source changed otherwise and has to be read
+   *     completely.
+   */
+  default Optional<List<Person>> readAppended(DataSourceListener listener) {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,417 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * Parses a CSV file on several threads by splitting it into memory-mapped byte ranges.
+ *
+ * <p>Every range starts at a line boundary and is parsed speculatively, assuming that no
+ * multi-line record is open at its first line. The ranges are then stitched together in file
+ * order: if the previous range ended with a line still waiting for its continuation, the start of
+ * the next range is parsed again sequentially with that line carried over, until both parses agree
+ * that no record is open. From that line on the speculative results are used unchanged. The output
+ * is therefore identical to a sequential {@link CsvRecordParser} run over the whole file.
+ *
+ * <p>Each range is stitched as soon as it and all ranges before it are parsed, and its results
+ * and mapped buffer are released right after. Only a few ranges per thread are parsed ahead of
+ * the one being stitched, so a slow consumer bounds the memory held by speculative results.
+ *
+ * <p>Lines around a range boundary that belong to a multi-line record may be logged twice, once by
+ * the speculative and once by the sequential parse.
+ */
+@Slf4j
+final class ParallelCsvReader {
+
+  static final long MIN_CHUNK_SIZE = 1024 * 1024;
+  private static final long MAX_CHUNK_SIZE = 256L * 1024 * 1024;
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  /**
+   * Number of chunks per thread that are parsed ahead of the chunk being stitched.
+   */
+  private static final int CHUNKS_AHEAD_PER_THREAD = 2;
+
+  private final int parallelism;
+  private final long minChunkSize;
+
+  /**
+   * @param parallelism  Number of worker threads.
+   * @param minChunkSize Smallest byte range handed to a single task.
+   */
+  ParallelCsvReader(int parallelism, long minChunkSize) {
+    this.parallelism = parallelism;
+    this.minChunkSize = minChunkSize;
+  }
+
+  /**
+   * Parses the file and passes every successfully parsed person to the consumer and every
+   * rejected record to {@code rejections}, both in file order and on the calling thread.
+   *
+   * @return How far the file was parsed.
+   */
+  Result read(Path path, Consumer<Person> consumer, Consumer<RejectionReason> rejections)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      List<Chunk> chunks = split(channel, size);
+      log.debug("Parsing {} in {} chunks on {} threads", path, chunks.size(), parallelism);
+
+      Stitcher stitcher = new Stitcher(consumer, rejections);
+      int ahead = parallelism * CHUNKS_AHEAD_PER_THREAD;
+      List<ChunkTask> tasks = new ArrayList<>(chunks.size());
+      try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+        for (Chunk chunk : chunks) {
+          ChunkTask task = new ChunkTask(channel, chunk);
+          tasks.add(task);
+          if (tasks.size() <= ahead) {
+            pool.execute(task);
+          }
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+          tasks.get(i).join();
+          if (i + ahead < tasks.size()) {
+            pool.execute(tasks.get(i + ahead));
+          }
+          Chunk chunk = chunks.get(i);
+          stitcher.stitch(chunk);
+          chunk.release();
+        }
+      }
+
+      return stitcher.result(size);
+    }
+  }
+
+  /**
+   * Splits the file into ranges that start and end at line boundaries.
+   */
+  private List<Chunk> split(FileChannel channel, long size) throws IOException {
+    long chunkSize = Math.min(MAX_CHUNK_SIZE,
+        Math.max(minChunkSize, size / ((long) parallelism * CHUNKS_PER_THREAD)));
+
+    List<Chunk> chunks = new ArrayList<>();
+    long start = 0;
+    while (start < size) {
+      long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+      chunks.add(new Chunk(start, end));
+      start = end;
+    }
+    return chunks;
+  }
+
+  /**
+   * Returns the first line start at or after {@code position}, treating {@code \r\n} as a single
+   * terminator.
+   */
+  private static long nextLineStart(FileChannel channel, long position, long size)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(8192);
+    long offset = position;
+    boolean afterCarriageReturn = false;
+    while (offset < size) {
+      buffer.clear();
+      int read = channel.read(buffer, offset);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        byte b = buffer.get(i);
+        if (afterCarriageReturn) {
+          return b == '\n' ? offset + i + 1 : offset + i;
+        }
+        if (b == '\n') {
+          return offset + i + 1;
+        }
+        afterCarriageReturn = b == '\r';
+      }
+      offset += read;
+    }
+    return size;
+  }
+
+  /**
+   * Feeds the lines of a chunk to the parser until {@code stop} accepts the offset following a
+   * line. Returns that offset, or -1 if the whole chunk was consumed.
+   */
+  private static long forEachLine(Chunk chunk, CsvRecordParser parser, LineEndCondition stop) {
+    MappedByteBuffer buffer = chunk.buffer;
+    int limit = buffer.limit();
+    byte[] line = new byte[256];
+    int lineStart = 0;
+    int i = 0;
+    while (i < limit) {
+      byte b = buffer.get(i);
+      if (b != '\n' && b != '\r') {
+        i++;
+        continue;
+      }
+      int next = b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n' ? i + 2 : i + 1;
+      line = acceptLine(buffer, lineStart, i, line, parser);
+      lineStart = next;
+      i = next;
+      if (stop.test(chunk.start + next)) {
+        return chunk.start + next;
+      }
+    }
+    if (lineStart < limit) {
+      acceptLine(buffer, lineStart, limit, line, parser);
+      if (stop.test(chunk.start + limit)) {
+        return chunk.start + limit;
+      }
+    }
+    return -1;
+  }
+
+  private static byte[] acceptLine(MappedByteBuffer buffer, int from, int to, byte[] line,
+      CsvRecordParser parser) {
+    int length = to - from;
+    if (line.length < length) {
+      line = new byte[Math.max(length, line.length * 2)];
+    }
+    buffer.get(from, line, 0, length);
+    parser.acceptLine(line, 0, length);
+    return line;
+  }
+
+  /**
+   * Number of bytes parsed and the line that was still waiting for its continuation at that
+   * offset, or {@code null} if there was none, together with the number of lines read and of
+   * lines merged with the line before them.
+   */
+  record Result(long length, byte[] pendingLine, long lines, long multiLineRecords) {
+
+  }
+
+  /**
+   * Outcome of parsing the record that starts at a line: the person, or why it was rejected.
+   */
+  private record ParsedRecord(long lineStart, Person person, RejectionReason rejection) {
+
+    private void passTo(Consumer<Person> consumer, Consumer<RejectionReason> rejections) {
+      if (person != null) {
+        consumer.accept(person);
+      } else {
+        rejections.accept(rejection);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface LineEndCondition {
+
+    boolean test(long lineEnd);
+  }
+
+  /**
+   * Passes on the records of the chunks in file order, one chunk at a time, and keeps track of
+   * how far the file was parsed.
+   */
+  private static final class Stitcher {
+
+    private final Consumer<Person> consumer;
+    private final Consumer<RejectionReason> rejections;
+    private byte[] carried;
+    private long lines;
+    private long multiLineRecords;
+
+    private Stitcher(Consumer<Person> consumer, Consumer<RejectionReason> rejections) {
+      this.consumer = consumer;
+      this.rejections = rejections;
+    }
+
+    /**
+     * Passes on the records of the next chunk, which must have been parsed.
+     */
+    private void stitch(Chunk chunk) {
+      lines += chunk.lines;
+      if (carried == null) {
+        chunk.replay(0, consumer, rejections);
+        multiLineRecords += chunk.multiLineRecordsFrom(0);
+        carried = chunk.trailingPending;
+        return;
+      }
+
+      CsvRecordParser parser = new CsvRecordParser(consumer, rejections);
+      parser.resumeWithPendingLine(carried);
+      long resyncAt = forEachLine(chunk, parser,
+          lineEnd -> !parser.hasPending() && !chunk.isPendingAt(lineEnd));
+      multiLineRecords += parser.multiLineRecords();
+
+      if (resyncAt < 0) {
+        carried = parser.pendingLine();
+        return;
+      }
+      chunk.replay(resyncAt, consumer, rejections);
+      multiLineRecords += chunk.multiLineRecordsFrom(resyncAt);
+      carried = chunk.trailingPending;
+    }
+
+    private Result result(long size) {
+      return new Result(size, carried, lines, multiLineRecords);
+    }
+  }
+
+  /**
+   * Byte range of the file together with its speculative parse result.
+   */
+  private static final class Chunk {
+
+    private final long start;
+    private final long end;
+
+    /**
+     * Parsed persons and rejection reasons in file order; {@code null} once stitched.
+     */
+    private List<ParsedRecord> records = new ArrayList<>();
+
+    private MappedByteBuffer buffer;
+    private long currentLineStart;
+    private byte[] trailingPending;
+
+    /**
+     * Flattened {@code [from, to)} offsets of line ranges in which the speculative parse had a
+     * multi-line record open; these are rare, so a linear scan is sufficient.
+     */
+    private long[] pendingRanges = new long[8];
+    private int pendingRangeValues;
+
+    /**
+     * Number of lines in the range and the starts of the lines the speculative parse merged with
+     * the line before them.
+     */
+    private long lines;
+    private long[] multiLineStarts = new long[8];
+    private int multiLineRecords;
+
+    private Chunk(long start, long end) {
+      this.start = start;
+      this.end = end;
+      this.currentLineStart = start;
+    }
+
+    private void addPerson(Person person) {
+      records.add(new ParsedRecord(currentLineStart, person, null));
+    }
+
+    private void addRejection(RejectionReason rejection) {
+      records.add(new ParsedRecord(currentLineStart, null, rejection));
+    }
+
+    /**
+     * Passes on the speculative results of all lines starting at or after {@code from}.
+     */
+    private void replay(long from, Consumer<Person> consumer,
+        Consumer<RejectionReason> rejections) {
+      for (ParsedRecord record : records) {
+        if (record.lineStart() >= from) {
+          record.passTo(consumer, rejections);
+        }
+      }
+    }
+
+    /**
+     * Drops the speculative results and the mapped buffer once the chunk has been stitched, so
+     * that both can be collected while later chunks are still being passed on.
+     */
+    private void release() {
+      records = null;
+      buffer = null;
+    }
+
+    private void multiLineRecord(long lineStart) {
+      if (multiLineRecords == multiLineStarts.length) {
+        multiLineStarts = Arrays.copyOf(multiLineStarts, multiLineStarts.length * 2);
+      }
+      multiLineStarts[multiLineRecords++] = lineStart;
+    }
+
+    /**
+     * Counts the lines starting at or after {@code from} that the speculative parse merged with
+     * the line before them.
+     */
+    private long multiLineRecordsFrom(long from) {
+      long count = 0;
+      for (int i = 0; i < multiLineRecords; i++) {
+        if (multiLineStarts[i] >= from) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    private void pendingChanged(long offset) {
+      if (pendingRangeValues == pendingRanges.length) {
+        pendingRanges = Arrays.copyOf(pendingRanges, pendingRanges.length * 2);
+      }
+      pendingRanges[pendingRangeValues++] = offset;
+    }
+
+    /**
+     * Whether the speculative parse had a record open right before the line starting at
+     * {@code offset}.
+     */
+    private boolean isPendingAt(long offset) {
+      for (int i = 0; i < pendingRangeValues; i += 2) {
+        long to = i + 1 < pendingRangeValues ? pendingRanges[i + 1] : Long.MAX_VALUE;
+        if (pendingRanges[i] < offset && offset < to) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class ChunkTask extends RecursiveAction {
+
+    private final FileChannel channel;
+    private final Chunk chunk;
+
+    private ChunkTask(FileChannel channel, Chunk chunk) {
+      this.channel = channel;
+      this.chunk = chunk;
+    }
+
+    @Override
+    protected void compute() {
+      try {
+        chunk.buffer = channel.map(MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to map CSV chunk at offset " + chunk.start, e);
+      }
+
+      CsvRecordParser parser = new CsvRecordParser(chunk::addPerson, chunk::addRejection);
+      forEachLine(chunk, parser, new LineEndCondition() {
+        private boolean pending;
+
+        @Override
+        public boolean test(long lineEnd) {
+          if (parser.multiLineRecords() > chunk.multiLineRecords) {
+            chunk.multiLineRecord(chunk.currentLineStart);
+          }
+          if (parser.hasPending() != pending) {
+            pending = parser.hasPending();
+            chunk.pendingChanged(pending ? chunk.currentLineStart : lineEnd);
+          }
+          chunk.currentLineStart = lineEnd;
+          return false;
+        }
+      });
+      chunk.trailingPending = parser.pendingLine();
+      chunk.lines = parser.lines();
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package org.dci.assecorassessmentbackend.service;
+
+import jakarta.validation.ConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.BadRequestException;
+import org.dci.assecorassessmentbackend.dto.PersonBatchItemDto;
+import org.dci.assecorassessmentbackend.dto.PersonBatchResultDto;
+import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
+import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.exception.ServiceUnavailableException;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates many persons at once. Every person is validated up front; the valid ones are persisted
+ * with JDBC batching in chunks of one transaction each, so a failing chunk neither rolls back the
+ * chunks before it nor stops the ones after it. A chunk rejected because of its data is retried
+ * in halves down to single persons, so only the persons that cannot be saved are reported as
+ * failed. Any other failure, such as an unreachable database, is not caused by a person and stops
+ * the batch right away.
+ */
+@Slf4j
+@Service
+public class PersonBatchService {
+
+  private final PersonRepository personRepository;
+  private final PersonMapper personMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxSize;
+
+  /**
+   * Constructor-based dependency injection for PersonBatchService.
+   *
+   * @param personRepository   Repository for Person entities.
+   * @param personMapper       Mapper creating the Person entities.
+   * @param eventPublisher     Publisher notifying about written persons.
+   * @param transactionManager Transaction manager for the chunks.
+   * @param chunkSize          Number of persons committed per transaction.
+   * @param maxSize            Largest number of persons accepted in one batch.
+   */
+  public PersonBatchService(PersonRepository personRepository, PersonMapper personMapper,
+      ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+      @Value("${app.persons.batch.chunk-size:5000}") int chunkSize,
+      @Value("${app.persons.batch.max-size:100000}") int maxSize) {
+    this.personRepository = personRepository;
+    this.personMapper = personMapper;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Creates the given persons and reports the outcome of each of them.
+   *
+   * @param persons The persons to create; {@code null} elements stand for persons that could not
+   *                be read and are reported as failed.
+   * @return The ID of every created person and the reason for every failed one.
+   * @throws BadRequestException         if the batch is larger than allowed.
+   * @throws ServiceUnavailableException if the database failed before any person was created.
+   */
+  public PersonBatchResultDto createPersons(List<PersonCreateDto> persons)
+      throws BadRequestException {
+    checkSize(persons.size());
+
+    PersonBatchItemDto[] items = new PersonBatchItemDto[persons.size()];
+    List<Person> valid = new ArrayList<>(persons.size());
+    int[] validIndexes = new int[persons.size()];
+    for (int i = 0; i < persons.size(); i++) {
+      String error = validate(persons.get(i));
+      if (error != null) {
+        items[i] = new PersonBatchItemDto(i, null, error);
+        continue;
+      }
+      validIndexes[valid.size()] = i;
+      valid.add(personMapper.toPerson(persons.get(i)));
+    }
+
+    String[] errors = new String[valid.size()];
+    for (int from = 0; from < valid.size(); from += chunkSize) {
+      int to = Math.min(from + chunkSize, valid.size());
+      try {
+        saveChunk(valid.subList(from, to), errors, from);
+      } catch (DataAccessException | TransactionException e) {
+        String reason = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        if (from == 0 && valid.stream().allMatch(person -> person.getId() == null)) {
+          throw new ServiceUnavailableException("Persons cannot be saved right now: " + reason);
+        }
+        log.warn("Stopped a batch after a failure not caused by its persons: {}", reason);
+        for (int k = from; k < valid.size(); k++) {
+          if (valid.get(k).getId() == null && errors[k] == null) {
+            errors[k] = "Not saved: " + reason;
+          }
+        }
+        break;
+      }
+    }
+    int created = 0;
+    for (int k = 0; k < valid.size(); k++) {
+      int index = validIndexes[k];
+      if (errors[k] == null) {
+        items[index] = new PersonBatchItemDto(index, valid.get(k).getId(), null);
+        created++;
+      } else {
+        items[index] = new PersonBatchItemDto(index, null, errors[k]);
+      }
+    }
+
+    log.info("Created {} of {} persons in a batch", created, persons.size());
+    return new PersonBatchResultDto(created, persons.size() - created, Arrays.asList(items));
+  }
+
+  /**
+   * Rejects a batch that is larger than allowed, so that callers reading a batch can stop as soon
+   * as it has grown too large.
+   *
+   * @param size The number of persons read so far.
+   * @throws BadRequestException if there are too many persons.
+   */
+  public void checkSize(int size) throws BadRequestException {
+    if (size > maxSize) {
+      throw new BadRequestException("Too many persons: more than " + maxSize + " per batch");
+    }
+  }
+
+  /**
+   * Persists a chunk in its own transaction. If its data is rejected, both halves are saved the
+   * same way, down to single persons whose error is recorded.
+   *
+   * @param chunk  The persons to save.
+   * @param errors Receives the reason for every person that was not saved.
+   * @param offset Index of the first person of the chunk in {@code errors}.
+   * @throws DataAccessException  if the database failed for a reason other than the data.
+   * @throws TransactionException if the transaction failed for a reason other than the data.
+   */
+  private void saveChunk(List<Person> chunk, String[] errors, int offset) {
+    String error = trySave(chunk);
+    if (error == null) {
+      return;
+    }
+    if (chunk.size() == 1) {
+      log.debug("Failed to save person {} of the batch: {}", offset, error);
+      errors[offset] = error;
+      return;
+    }
+    int half = chunk.size() / 2;
+    saveChunk(chunk.subList(0, half), errors, offset);
+    saveChunk(chunk.subList(half, chunk.size()), errors, offset + half);
+  }
+
+  /**
+   * Persists persons in one transaction. IDs assigned before a rollback are cleared, since they
+   * would make a retry treat the persons as detached.
+   *
+   * @return {@code null} if they were committed, otherwise why their data was rejected.
+   * @throws DataAccessException  if the database failed for a reason other than the data.
+   * @throws TransactionException if the transaction failed for a reason other than the data.
+   */
+  private String trySave(List<Person> persons) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        personRepository.saveInBatches(persons);
+        eventPublisher.publishEvent(PersonsChangedEvent.added(persons));
+      });
+      return null;
+    } catch (DataIntegrityViolationException | ConstraintViolationException e) {
+      persons.forEach(person -> person.setId(null));
+      return "Not saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+    } catch (RuntimeException e) {
+      persons.forEach(person -> person.setId(null));
+      throw e;
+    }
+  }
+
+  /**
+   * Returns why a person cannot be created, or {@code null} if it can.
+   */
+  private static String validate(PersonCreateDto person) {
+    if (person == null) {
+      return "Missing or malformed person";
+    }
+    try {
+      Color.fromDisplayName(person.getColor());
+      return null;
+    } catch (IllegalArgumentException e) {
+      return "Invalid color: " + person.getColor();
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of the persons per color, answering color lookups without the database.
+ *
+ * <p>Every color has an array of PersonDto, sorted by ID up to the last rebuild and followed by
+ * the persons added since. Readers get an immutable snapshot of the array and its length, which
+ * is published through a volatile field, so they never block. The single writer appends behind
+ * the published length, or copies into a larger array, and then publishes a new snapshot; slots
+ * visible to a snapshot are never written again.
+ *
+ * <p>The index is rebuilt by {@link PersonIndexes} on every bulk change and is not available
+ * while rebuilding, in which case callers fall back to the database.
+ */
+@Component
+public class PersonColorIndex implements PersonIndex {
+
+  private static final Color[] COLORS = Color.values();
+
+  private final PersonMapper personMapper;
+  private final boolean enabled;
+
+  /**
+   * Arrays per color ordinal; {@code null} while the index is not available.
+   */
+  private volatile Snapshot[] snapshots;
+
+  /**
+   * Constructor-based dependency injection for PersonColorIndex.
+   *
+   * @param personMapper Mapper creating the indexed PersonDto.
+   * @param enabled      Whether the index is maintained at all.
+   */
+  public PersonColorIndex(PersonMapper personMapper,
+      @Value("${app.index.color.enabled:true}") boolean enabled) {
+    this.personMapper = personMapper;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the persons with the given color in a consistent snapshot.
+   *
+   * @param color The color to look up.
+   * @return Unmodifiable list of the persons, or empty if the index is not available.
+   */
+  public Optional<List<PersonDto>> findByColor(Color color) {
+    Snapshot[] current = snapshots;
+    if (current == null) {
+      return Optional.empty();
+    }
+    return Optional.of(current[color.ordinal()].asList());
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public Rebuild rebuild() {
+    snapshots = null;
+    List<List<PersonDto>> byColor = new ArrayList<>(COLORS.length);
+    for (int i = 0; i < COLORS.length; i++) {
+      byColor.add(new ArrayList<>());
+    }
+    return new Rebuild() {
+      @Override
+      public void add(Person person) {
+        if (person.getColor() != null) {
+          byColor.get(person.getColor().ordinal()).add(personMapper.toPersonDto(person));
+        }
+      }
+
+      @Override
+      public void publish() {
+        Snapshot[] rebuilt = new Snapshot[COLORS.length];
+        for (int i = 0; i < COLORS.length; i++) {
+          PersonDto[] entries = byColor.get(i).toArray(PersonDto[]::new);
+          rebuilt[i] = new Snapshot(entries, entries.length);
+        }
+        snapshots = rebuilt;
+      }
+    };
+  }
+
+  /**
+   * Appends persons to the current snapshots and publishes new ones.
+   */
+  @Override
+  public void add(List<Person> persons) {
+    if (snapshots == null) {
+      return;
+    }
+    Snapshot[] updated = snapshots.clone();
+    for (Person person : persons) {
+      if (person.getColor() != null) {
+        int color = person.getColor().ordinal();
+        updated[color] = updated[color].append(personMapper.toPersonDto(person));
+      }
+    }
+    snapshots = updated;
+  }
+
+  /**
+   * The first {@code size} entries of an array that may be shared with newer snapshots.
+   */
+  private record Snapshot(PersonDto[] entries, int size) {
+
+    private List<PersonDto> asList() {
+      return Collections.unmodifiableList(Arrays.asList(entries).subList(0, size));
+    }
+
+    private Snapshot append(PersonDto personDto) {
+      PersonDto[] target = entries;
+      if (size == target.length) {
+        target = Arrays.copyOf(entries, Math.max(16, size + (size >> 1)));
+      }
+      target[size] = personDto;
+      return new Snapshot(target, size + 1);
+    }
+  }
+}
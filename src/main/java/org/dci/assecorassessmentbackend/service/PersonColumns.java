@@ -0,0 +1,250 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.model.Color;
+
+/**
+ * Immutable snapshot of all persons in a columnar layout, sorted by ID.
+ *
+ * <p>Each person is a row index into primitive arrays: the ID, the color code and dictionary codes
+ * for the names, the zip code and the city. The dictionary holds every distinct string once. The
+ * rows are split into a main run and a small delta run of persons inserted out of ID order, which
+ * are merged on reads. The arrays may be longer than the runs and shared with newer snapshots,
+ * which only write behind the rows visible here.
+ */
+public final class PersonColumns {
+
+  /**
+   * Dictionary code of a {@code null} string.
+   */
+  static final int NULL_CODE = -1;
+
+  /**
+   * Color code of a person without a color.
+   */
+  static final byte NO_COLOR = 0;
+
+  private static final Color[] COLORS_BY_CODE = colorsByCode();
+
+  final Rows base;
+  final Rows delta;
+  final String[] dictionary;
+  final int dictionarySize;
+
+  PersonColumns(Rows base, Rows delta, String[] dictionary, int dictionarySize) {
+    this.base = base;
+    this.delta = delta;
+    this.dictionary = dictionary;
+    this.dictionarySize = dictionarySize;
+  }
+
+  /**
+   * Number of persons.
+   */
+  public int size() {
+    return base.size() + delta.size();
+  }
+
+  /**
+   * Looks up a person by ID with a binary search.
+   *
+   * @param id The ID of the person.
+   * @return The person, or empty if there is none with this ID.
+   */
+  public Optional<PersonDto> findById(long id) {
+    int row = base.find(id);
+    if (row >= 0) {
+      return Optional.of(toPersonDto(base, row));
+    }
+    row = delta.find(id);
+    return row >= 0 ? Optional.of(toPersonDto(delta, row)) : Optional.empty();
+  }
+
+  /**
+   * Returns all persons in ID order.
+   *
+   * @return List of PersonDto.
+   */
+  public List<PersonDto> findAll() {
+    List<PersonDto> persons = new ArrayList<>(size());
+    forEach(null, persons::add);
+    return persons;
+  }
+
+  /**
+   * Returns the persons with a color in ID order.
+   *
+   * @param color The color to filter by.
+   * @return List of PersonDto.
+   */
+  public List<PersonDto> findByColor(Color color) {
+    List<PersonDto> persons = new ArrayList<>();
+    forEach(color, persons::add);
+    return persons;
+  }
+
+  /**
+   * Passes the persons, optionally filtered by color, to the consumer in ID order.
+   *
+   * @param color    The color to filter by, or {@code null} for all persons.
+   * @param consumer Receives the persons.
+   */
+  public void forEach(Color color, Consumer<PersonDto> consumer) {
+    scan(color, Long.MIN_VALUE, Integer.MAX_VALUE, consumer);
+  }
+
+  /**
+   * Returns up to {@code limit} persons with an ID greater than {@code afterId} in ID order.
+   *
+   * @param color   The color to filter by, or {@code null} for all persons.
+   * @param afterId The last ID of the previous page.
+   * @param limit   Maximum number of persons.
+   * @return List of PersonDto.
+   */
+  public List<PersonDto> findPage(Color color, long afterId, int limit) {
+    List<PersonDto> persons = new ArrayList<>(Math.min(limit, size()));
+    scan(color, afterId, limit, persons::add);
+    return persons;
+  }
+
+  /**
+   * Estimates the heap used by the columns and the dictionary, assuming compressed references.
+   *
+   * @return Estimated size in bytes.
+   */
+  public long estimatedBytes() {
+    long bytes = base.estimatedBytes() + delta.estimatedBytes();
+    bytes += 16L + dictionary.length * 4L;
+    for (int i = 0; i < dictionarySize; i++) {
+      bytes += estimatedBytes(dictionary[i]);
+    }
+    return bytes;
+  }
+
+  /**
+   * Estimates the heap used by a string: its object and its Latin-1 or UTF-16 byte array.
+   */
+  static long estimatedBytes(String value) {
+    boolean latin1 = value.chars().allMatch(c -> c < 256);
+    long array = 16L + (latin1 ? value.length() : 2L * value.length());
+    return 24 + ((array + 7) & ~7);
+  }
+
+  /**
+   * Passes up to {@code limit} persons after an ID to the consumer, merging both runs by ID.
+   */
+  private void scan(Color color, long afterId, int limit, Consumer<PersonDto> consumer) {
+    byte code = color == null ? NO_COLOR : (byte) color.getCode();
+    int i = base.firstAfter(afterId);
+    int j = delta.firstAfter(afterId);
+    int found = 0;
+    while (found < limit) {
+      Rows rows;
+      int row;
+      if (i < base.size() && (j >= delta.size() || base.ids()[i] < delta.ids()[j])) {
+        rows = base;
+        row = i++;
+      } else if (j < delta.size()) {
+        rows = delta;
+        row = j++;
+      } else {
+        break;
+      }
+      if (color == null || rows.colors()[row] == code) {
+        consumer.accept(toPersonDto(rows, row));
+        found++;
+      }
+    }
+  }
+
+  private PersonDto toPersonDto(Rows rows, int row) {
+    Color color = COLORS_BY_CODE[rows.colors()[row]];
+    return new PersonDto(rows.ids()[row], decode(rows.firstNames()[row]),
+        decode(rows.lastNames()[row]), decode(rows.zipCodes()[row]), decode(rows.cities()[row]),
+        color == null ? null : color.getDisplayName());
+  }
+
+  private String decode(int code) {
+    return code == NULL_CODE ? null : dictionary[code];
+  }
+
+  private static Color[] colorsByCode() {
+    int maxCode = NO_COLOR;
+    for (Color color : Color.values()) {
+      maxCode = Math.max(maxCode, color.getCode());
+    }
+    Color[] colors = new Color[maxCode + 1];
+    for (Color color : Color.values()) {
+      colors[color.getCode()] = color;
+    }
+    return colors;
+  }
+
+  /**
+   * Rows sorted by ID in parallel arrays; the first {@code size} rows are never modified once
+   * published.
+   */
+  record Rows(long[] ids, byte[] colors, int[] firstNames, int[] lastNames, int[] zipCodes,
+      int[] cities, int size) {
+
+    static final Rows EMPTY = new Rows(new long[0], new byte[0], new int[0], new int[0],
+        new int[0], new int[0], 0);
+
+    /**
+     * Returns the row of an ID, or a negative value if there is none.
+     */
+    int find(long id) {
+      return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    /**
+     * Returns the first row with an ID greater than the given one.
+     */
+    int firstAfter(long id) {
+      int row = find(id);
+      return row >= 0 ? row + 1 : -row - 1;
+    }
+
+    /**
+     * Merges two runs with distinct IDs into new arrays of the given capacity.
+     */
+    static Rows merge(Rows a, Rows b, int capacity) {
+      int size = a.size + b.size;
+      long[] ids = new long[capacity];
+      byte[] colors = new byte[capacity];
+      int[] firstNames = new int[capacity];
+      int[] lastNames = new int[capacity];
+      int[] zipCodes = new int[capacity];
+      int[] cities = new int[capacity];
+      int i = 0;
+      int j = 0;
+      for (int k = 0; k < size; k++) {
+        Rows source;
+        int row;
+        if (j >= b.size || (i < a.size && a.ids[i] < b.ids[j])) {
+          source = a;
+          row = i++;
+        } else {
+          source = b;
+          row = j++;
+        }
+        ids[k] = source.ids[row];
+        colors[k] = source.colors[row];
+        firstNames[k] = source.firstNames[row];
+        lastNames[k] = source.lastNames[row];
+        zipCodes[k] = source.zipCodes[row];
+        cities[k] = source.cities[row];
+      }
+      return new Rows(ids, colors, firstNames, lastNames, zipCodes, cities, size);
+    }
+
+    private long estimatedBytes() {
+      return 16L + ids.length * 8L + 16L + colors.length + 4 * (16L + firstNames.length * 4L);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Monotonically increasing versions of the list of all persons and of the list of every color.
+ *
+ * <p>A version changes whenever its list may have changed, and only after every other listener
+ * has brought its derived state up to date; data read after reading a version is therefore at
+ * least as new as that version. Versions start over when the application restarts, so their tags
+ * include the start time of this instance.
+ */
+@Component
+public class PersonDataVersion {
+
+  private static final Color[] COLORS = Color.values();
+
+  /**
+   * Slot of the list of all persons, following the slots of the colors.
+   */
+  private static final int ALL = COLORS.length;
+
+  private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+  private final AtomicReferenceArray<Version> versions = new AtomicReferenceArray<>(ALL + 1);
+
+  /**
+   * Creates the initial versions, modified at the start of the application.
+   */
+  public PersonDataVersion() {
+    long now = System.currentTimeMillis();
+    for (int slot = 0; slot <= ALL; slot++) {
+      versions.set(slot, new Version(0, instanceId + "-0", now));
+    }
+  }
+
+  /**
+   * Returns the current version of the list of all persons.
+   *
+   * @return The version.
+   */
+  public Version ofAllPersons() {
+    return versions.get(ALL);
+  }
+
+  /**
+   * Returns the current version of the list of the persons with a color.
+   *
+   * @param color The color.
+   * @return The version.
+   */
+  public Version ofColor(Color color) {
+    return versions.get(color.ordinal());
+  }
+
+  /**
+   * Advances the versions of the lists the change may affect: every list for a reset, otherwise
+   * the list of all persons and the lists of the colors of the added persons that have one. Runs
+   * after all other listeners of the event.
+   *
+   * @param event The committed change.
+   */
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPersonsChanged(PersonsChangedEvent event) {
+    long now = System.currentTimeMillis();
+    if (event.reset()) {
+      for (int slot = 0; slot <= ALL; slot++) {
+        advance(slot, now);
+      }
+      return;
+    }
+    advance(ALL, now);
+    event.addedPersons().stream()
+        .map(Person::getColor)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(color -> advance(color.ordinal(), now));
+  }
+
+  private void advance(int slot, long now) {
+    versions.updateAndGet(slot, version -> {
+      long generation = version.generation() + 1;
+      return new Version(generation, instanceId + "-" + generation, now);
+    });
+  }
+
+  /**
+   * Version of a person list.
+   *
+   * @param generation   Number of changes of the list since the start of the application.
+   * @param tag          Opaque tag identifying the version across restarts, suitable for an
+   *                     entity tag.
+   * @param lastModified Time of the last change in milliseconds since the epoch.
+   */
+  public record Version(long generation, String tag, long lastModified) {
+
+  }
+}
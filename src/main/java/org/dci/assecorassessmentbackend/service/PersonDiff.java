@@ -0,0 +1,127 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * Difference between the persisted persons and a freshly read data source.
+ *
+ * <p>Records are matched by their natural key of last name, first name, zip code and city; the
+ * color is the only other attribute, so a matched record with a different color is an update.
+ * The same key may occur several times, in which case the records are matched as a multiset:
+ * records with an equal color are paired first, the remaining ones are paired as updates and any
+ * surplus is inserted or deleted.
+ */
+public final class PersonDiff {
+
+  private final List<Person> inserts;
+  private final Map<Color, List<Long>> colorUpdates;
+  private final List<Long> deletes;
+  private final int updateCount;
+
+  private PersonDiff(List<Person> inserts, Map<Color, List<Long>> colorUpdates,
+      List<Long> deletes, int updateCount) {
+    this.inserts = inserts;
+    this.colorUpdates = colorUpdates;
+    this.deletes = deletes;
+    this.updateCount = updateCount;
+  }
+
+  /**
+   * Computes the changes that turn {@code existing} into {@code incoming}.
+   *
+   * @param existing Persisted persons, with their IDs.
+   * @param incoming Persons read from the data source.
+   * @return The difference.
+   */
+  public static PersonDiff compute(Collection<Person> existing, List<Person> incoming) {
+    Map<Key, List<Person>> unmatched = new HashMap<>(existing.size() * 2);
+    for (Person person : existing) {
+      unmatched.computeIfAbsent(Key.of(person), key -> new ArrayList<>(1)).add(person);
+    }
+
+    List<Person> changed = new ArrayList<>();
+    for (Person person : incoming) {
+      List<Person> candidates = unmatched.get(Key.of(person));
+      if (candidates == null || !removeWithColor(candidates, person.getColor())) {
+        changed.add(person);
+      }
+    }
+
+    List<Person> inserts = new ArrayList<>();
+    Map<Color, List<Long>> colorUpdates = new HashMap<>();
+    int updateCount = 0;
+    for (Person person : changed) {
+      List<Person> candidates = unmatched.get(Key.of(person));
+      if (candidates == null || candidates.isEmpty()) {
+        inserts.add(person);
+        continue;
+      }
+      Person current = candidates.removeLast();
+      colorUpdates.computeIfAbsent(person.getColor(), color -> new ArrayList<>())
+          .add(current.getId());
+      updateCount++;
+    }
+
+    List<Long> deletes = new ArrayList<>();
+    for (List<Person> candidates : unmatched.values()) {
+      for (Person person : candidates) {
+        deletes.add(person.getId());
+      }
+    }
+    return new PersonDiff(inserts, colorUpdates, deletes, updateCount);
+  }
+
+  private static boolean removeWithColor(List<Person> candidates, Color color) {
+    for (int i = candidates.size() - 1; i >= 0; i--) {
+      if (candidates.get(i).getColor() == color) {
+        candidates.set(i, candidates.getLast());
+        candidates.removeLast();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * New persons to insert.
+   */
+  public List<Person> getInserts() {
+    return inserts;
+  }
+
+  /**
+   * IDs of persisted persons whose color changed, grouped by the new color.
+   */
+  public Map<Color, List<Long>> getColorUpdates() {
+    return colorUpdates;
+  }
+
+  /**
+   * IDs of persisted persons that are no longer in the data source.
+   */
+  public List<Long> getDeletes() {
+    return deletes;
+  }
+
+  public int getUpdateCount() {
+    return updateCount;
+  }
+
+  public boolean isEmpty() {
+    return inserts.isEmpty() && updateCount == 0 && deletes.isEmpty();
+  }
+
+  private record Key(String lastName, String firstName, String zipCode, String city) {
+
+    private static Key of(Person person) {
+      return new Key(person.getLastName(), person.getFirstName(), person.getZipCode(),
+          person.getCity());
+    }
+  }
+}
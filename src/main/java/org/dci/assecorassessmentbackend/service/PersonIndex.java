@@ -0,0 +1,53 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.List;
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * In-memory state derived from all persons, such as an index, that {@link PersonIndexes} keeps up
+ * to date. Its methods are called by one thread at a time; readers get immutable snapshots and
+ * never block.
+ */
+public interface PersonIndex {
+
+  /**
+   * Whether the index is maintained at all.
+   *
+   * @return {@code false} if the index is disabled.
+   */
+  boolean isEnabled();
+
+  /**
+   * Starts rebuilding the index from all persons. An index that cannot serve outdated data
+   * becomes unavailable until the rebuild is published.
+   *
+   * @return The rebuild receiving every person once.
+   */
+  Rebuild rebuild();
+
+  /**
+   * Adds inserted persons to the published index; ignored while the index is not available.
+   *
+   * @param persons The inserted persons with their IDs, none of which is indexed yet.
+   */
+  void add(List<Person> persons);
+
+  /**
+   * Index being built while the published one is still served or unavailable.
+   */
+  interface Rebuild {
+
+    /**
+     * Adds a person. Persons come in ascending ID order, followed by the ones inserted while
+     * rebuilding.
+     *
+     * @param person The person with its ID.
+     */
+    void add(Person person);
+
+    /**
+     * Replaces the published index with the rebuilt one.
+     */
+    void publish();
+  }
+}
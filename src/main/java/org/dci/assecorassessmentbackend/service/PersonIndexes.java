@@ -0,0 +1,323 @@
+package org.dci.assecorassessmentbackend.service;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps every enabled {@link PersonIndex} up to date, in the order of their bean definitions,
+ * before the caches are evicted.
+ *
+ * <p>Inserted persons are added to all indexes. Bulk changes rebuild all of them in a single pass
+ * over the persons: the persons carried by the event when a load replaced all of them, otherwise
+ * a database cursor. An insert that commits while the pass runs may or may not be read by it, so
+ * the IDs of inserts are tracked from just before their commit until their transaction completes.
+ * The pass notes which of those IDs it read; inserts reported during the pass are added
+ * afterwards unless it read them, and inserts still completing after the pass are skipped for the
+ * same reason. No IDs are kept once no insert is in flight.
+ */
+@Slf4j
+@Component
+public class PersonIndexes {
+
+  private final List<PersonIndex> indexes;
+  private final PersonRepository personRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+
+  private final ReentrantLock rebuildLock = new ReentrantLock();
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  private boolean rebuilding;
+  private final List<Person> addedWhileRebuilding = new ArrayList<>();
+
+  /**
+   * IDs of inserted persons from just before their commit until their transaction completes.
+   */
+  private final Set<Long> committing = new HashSet<>();
+
+  /**
+   * IDs the running pass has to look out for: those committing when it started or since.
+   */
+  private Set<Long> watched = Set.of();
+
+  /**
+   * IDs of committing persons that the last pass read, whose insert has not been reported yet.
+   */
+  private final Set<Long> readBeforeReported = new HashSet<>();
+
+  /**
+   * Constructor-based dependency injection for PersonIndexes.
+   *
+   * @param indexes            The indexes; disabled ones are skipped.
+   * @param personRepository   Repository for Person entities.
+   * @param entityManager      Entity manager used to detach streamed entities.
+   * @param transactionManager Transaction manager for reading all persons.
+   */
+  public PersonIndexes(List<PersonIndex> indexes, PersonRepository personRepository,
+      EntityManager entityManager, PlatformTransactionManager transactionManager) {
+    this.indexes = indexes.stream()
+        .filter(PersonIndex::isEnabled)
+        .toList();
+    this.personRepository = personRepository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Registers the IDs of inserted persons right before their transaction commits, so that a
+   * rebuild reading them can be told apart from one that does not.
+   *
+   * @param event The change.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void onPersonsCommitting(PersonsChangedEvent event) {
+    if (indexes.isEmpty() || event.reset()) {
+      return;
+    }
+    writeLock.lock();
+    try {
+      for (Person person : event.addedPersons()) {
+        if (person.getId() != null) {
+          committing.add(person.getId());
+          if (rebuilding) {
+            watched.add(person.getId());
+          }
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Keeps the indexes up to date. Runs before the caches are evicted, so that a cache miss right
+   * after the eviction already sees the added persons.
+   *
+   * @param event The change.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPersonsChanged(PersonsChangedEvent event) {
+    if (indexes.isEmpty()) {
+      return;
+    }
+    if (event.reset()) {
+      rebuild(event.addedPersons());
+      return;
+    }
+    writeLock.lock();
+    try {
+      if (rebuilding) {
+        addedWhileRebuilding.addAll(event.addedPersons());
+        return;
+      }
+      List<Person> added = event.addedPersons().stream()
+          .filter(person -> person.getId() != null
+              && !readBeforeReported.remove(person.getId()))
+          .toList();
+      if (!added.isEmpty()) {
+        indexes.forEach(index -> index.add(added));
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Forgets the IDs of inserted persons once their transaction has completed, whether it was
+   * committed or rolled back.
+   *
+   * @param event The change.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+  public void onPersonsCompleted(PersonsChangedEvent event) {
+    if (indexes.isEmpty() || event.reset()) {
+      return;
+    }
+    writeLock.lock();
+    try {
+      for (Person person : event.addedPersons()) {
+        if (person.getId() != null) {
+          committing.remove(person.getId());
+          readBeforeReported.remove(person.getId());
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Rebuilds all indexes from the given persons, or from the database if they are not known or
+   * the database contains others as well.
+   *
+   * @param persons All persisted persons, or empty if they have to be read.
+   */
+  private void rebuild(List<Person> persons) {
+    rebuildLock.lock();
+    try {
+      writeLock.lock();
+      try {
+        rebuilding = true;
+        addedWhileRebuilding.clear();
+        watched = ConcurrentHashMap.newKeySet();
+        watched.addAll(committing);
+        readBeforeReported.clear();
+      } finally {
+        writeLock.unlock();
+      }
+
+      long start = System.nanoTime();
+      Pass pass = persons.isEmpty() ? null : readPersons(persons);
+      if (pass != null) {
+        long persisted = personRepository.count();
+        if (persisted != pass.size + countAddedWhileRebuilding(pass)) {
+          log.info("Persons were written while loading, reading all {} from the database",
+              persisted);
+          pass = null;
+        }
+      }
+      String source = pass != null ? "the loaded data" : "the database";
+      if (pass == null) {
+        pass = readDatabase();
+      }
+
+      writeLock.lock();
+      try {
+        for (Person person : addedWhileRebuilding) {
+          if (person.getId() != null && !pass.read.contains(person.getId())) {
+            pass.rebuilds.forEach(rebuild -> rebuild.add(person));
+          }
+          pass.read.remove(person.getId());
+        }
+        pass.rebuilds.forEach(PersonIndex.Rebuild::publish);
+        pass.read.retainAll(committing);
+        readBeforeReported.addAll(pass.read);
+      } finally {
+        endRebuild();
+        writeLock.unlock();
+      }
+      log.info("Built {} person indexes of {} persons from {} in {} ms", indexes.size(),
+          pass.size, source, (System.nanoTime() - start) / 1_000_000);
+    } catch (RuntimeException e) {
+      writeLock.lock();
+      try {
+        endRebuild();
+      } finally {
+        writeLock.unlock();
+      }
+      log.error("Failed to build the person indexes, lookups use the database: {}",
+          e.getMessage(), e);
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  private void endRebuild() {
+    rebuilding = false;
+    addedWhileRebuilding.clear();
+    watched = Set.of();
+  }
+
+  /**
+   * Passes the given persons to new rebuilds in ID order.
+   *
+   * @return The pass, or {@code null} if a person has no ID.
+   */
+  private Pass readPersons(List<Person> persons) {
+    if (persons.stream().anyMatch(person -> person.getId() == null)) {
+      return null;
+    }
+    List<Person> sorted = persons;
+    for (int i = 1; i < persons.size(); i++) {
+      if (persons.get(i - 1).getId() >= persons.get(i).getId()) {
+        sorted = persons.stream()
+            .sorted(Comparator.comparing(Person::getId))
+            .toList();
+        break;
+      }
+    }
+    Pass pass = startPass();
+    sorted.forEach(pass::add);
+    return pass;
+  }
+
+  private Pass readDatabase() {
+    Pass pass = startPass();
+    transactionTemplate.executeWithoutResult(status -> {
+      try (Stream<Person> persons = personRepository.streamAll()) {
+        persons.forEach(person -> {
+          pass.add(person);
+          entityManager.detach(person);
+        });
+      }
+    });
+    return pass;
+  }
+
+  private Pass startPass() {
+    writeLock.lock();
+    try {
+      return new Pass(indexes.stream().map(PersonIndex::rebuild).toList(), watched);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private int countAddedWhileRebuilding(Pass pass) {
+    writeLock.lock();
+    try {
+      return (int) addedWhileRebuilding.stream()
+          .filter(person -> person.getId() != null && !pass.read.contains(person.getId()))
+          .count();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * One pass over all persons in ID order, feeding the rebuilds of the indexes and noting which
+   * of the watched IDs it read.
+   */
+  private static final class Pass {
+
+    private final List<PersonIndex.Rebuild> rebuilds;
+    private final Set<Long> watched;
+    private final Set<Long> read = new HashSet<>();
+    private int size;
+
+    private Pass(List<PersonIndex.Rebuild> rebuilds, Set<Long> watched) {
+      this.rebuilds = rebuilds;
+      this.watched = watched;
+    }
+
+    private void add(Person person) {
+      size++;
+      if (watched.contains(person.getId())) {
+        read.add(person.getId());
+      }
+      for (PersonIndex.Rebuild rebuild : rebuilds) {
+        rebuild.add(person);
+      }
+    }
+  }
+}
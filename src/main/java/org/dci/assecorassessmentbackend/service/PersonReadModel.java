@@ -0,0 +1,220 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional read model holding all persons in memory as {@link PersonColumns}, so that reads need
+ * neither the database nor an object per person.
+ *
+ * <p>Readers get the current snapshot from a volatile field and never block. Writes are applied
+ * by a single writer: inserts with the highest ID so far are appended behind the published rows,
+ * any other goes into a small delta run, which is merged into the main run once it has reached a
+ * fixed size. Bulk changes rebuild the model through {@link PersonIndexes}; it is not available
+ * meanwhile.
+ */
+@Slf4j
+@Component
+public class PersonReadModel implements PersonIndex {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /**
+   * Size of the delta run at which it is merged into the main run. Every out-of-order insert
+   * copies the delta run and every merge the main run, so this balances the two for large models.
+   */
+  private static final int MERGE_SIZE = 4096;
+  private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  private final boolean enabled;
+
+  private volatile PersonColumns columns;
+
+  /**
+   * Writer state: the columns being appended to and the dictionary codes of all strings.
+   */
+  private Builder builder;
+
+  /**
+   * Constructor-based dependency injection for PersonReadModel.
+   *
+   * @param enabled Whether the read model is maintained and used.
+   */
+  public PersonReadModel(@Value("${app.read-model.enabled:false}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the current snapshot.
+   *
+   * @return The snapshot, or empty if the read model is disabled or being rebuilt.
+   */
+  public Optional<PersonColumns> snapshot() {
+    return Optional.ofNullable(columns);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public Rebuild rebuild() {
+    columns = null;
+    builder = null;
+    Builder rebuilt = new Builder();
+    return new Rebuild() {
+      @Override
+      public void add(Person person) {
+        rebuilt.add(person);
+      }
+
+      @Override
+      public void publish() {
+        builder = rebuilt;
+        columns = rebuilt.snapshot();
+        logFootprint(columns, rebuilt);
+      }
+    };
+  }
+
+  @Override
+  public void add(List<Person> persons) {
+    if (builder != null) {
+      persons.forEach(builder::add);
+      columns = builder.snapshot();
+    }
+  }
+
+  private static void logFootprint(PersonColumns snapshot, Builder builder) {
+    long bytes = snapshot.estimatedBytes() + builder.estimatedEncoderBytes();
+    double perMillion = snapshot.size() == 0 ? 0 : bytes * 1_000_000d / snapshot.size();
+    log.info("Built read model of {} rows and {} distinct strings: {} MB, {} MB per million "
+            + "rows", snapshot.size(), snapshot.dictionarySize,
+        String.format("%.1f", bytes / BYTES_PER_MEGABYTE),
+        String.format("%.1f", perMillion / BYTES_PER_MEGABYTE));
+  }
+
+  /**
+   * Appends rows to columns that are shared with the published snapshots and keeps persons
+   * inserted out of ID order in a small delta run. Not thread-safe.
+   */
+  private static final class Builder {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private byte[] colors = new byte[INITIAL_CAPACITY];
+    private int[] firstNames = new int[INITIAL_CAPACITY];
+    private int[] lastNames = new int[INITIAL_CAPACITY];
+    private int[] zipCodes = new int[INITIAL_CAPACITY];
+    private int[] cities = new int[INITIAL_CAPACITY];
+    private int size;
+    private PersonColumns.Rows delta = PersonColumns.Rows.EMPTY;
+    private String[] dictionary = new String[INITIAL_CAPACITY];
+    private int dictionarySize;
+
+    /**
+     * Adds a person in ID order, unless a person with this ID exists already. A person with the
+     * highest ID so far is appended to the main run, any other is inserted into the delta run.
+     */
+    private void add(Person person) {
+      if (person.getId() == null) {
+        return;
+      }
+      long id = person.getId();
+      byte color = person.getColor() == null
+          ? PersonColumns.NO_COLOR : (byte) person.getColor().getCode();
+      if (size > 0 && ids[size - 1] >= id) {
+        if (Arrays.binarySearch(ids, 0, size, id) < 0 && delta.find(id) < 0) {
+          insert(id, color, person);
+        }
+        return;
+      }
+
+      if (size == ids.length) {
+        grow(size + (size >> 1));
+      }
+      ids[size] = id;
+      colors[size] = color;
+      firstNames[size] = encode(person.getFirstName());
+      lastNames[size] = encode(person.getLastName());
+      zipCodes[size] = encode(person.getZipCode());
+      cities[size] = encode(person.getCity());
+      size++;
+    }
+
+    /**
+     * Inserts a person into a copy of the delta run, merging it into a copy of the main run once
+     * it has grown large enough. The arrays of published snapshots stay untouched.
+     */
+    private void insert(long id, byte color, Person person) {
+      PersonColumns.Rows row = new PersonColumns.Rows(new long[] {id}, new byte[] {color},
+          new int[] {encode(person.getFirstName())}, new int[] {encode(person.getLastName())},
+          new int[] {encode(person.getZipCode())}, new int[] {encode(person.getCity())}, 1);
+      delta = PersonColumns.Rows.merge(delta, row, delta.size() + 1);
+      if (delta.size() < MERGE_SIZE) {
+        return;
+      }
+      int merged = size + delta.size();
+      PersonColumns.Rows base = PersonColumns.Rows.merge(mainRun(), delta,
+          merged + (merged >> 1));
+      ids = base.ids();
+      colors = base.colors();
+      firstNames = base.firstNames();
+      lastNames = base.lastNames();
+      zipCodes = base.zipCodes();
+      cities = base.cities();
+      size = base.size();
+      delta = PersonColumns.Rows.EMPTY;
+    }
+
+    private void grow(int capacity) {
+      ids = Arrays.copyOf(ids, capacity);
+      colors = Arrays.copyOf(colors, capacity);
+      firstNames = Arrays.copyOf(firstNames, capacity);
+      lastNames = Arrays.copyOf(lastNames, capacity);
+      zipCodes = Arrays.copyOf(zipCodes, capacity);
+      cities = Arrays.copyOf(cities, capacity);
+    }
+
+    private int encode(String value) {
+      if (value == null) {
+        return PersonColumns.NULL_CODE;
+      }
+      Integer code = codes.get(value);
+      if (code != null) {
+        return code;
+      }
+      if (dictionarySize == dictionary.length) {
+        dictionary = Arrays.copyOf(dictionary, dictionarySize + (dictionarySize >> 1));
+      }
+      dictionary[dictionarySize] = value;
+      codes.put(value, dictionarySize);
+      return dictionarySize++;
+    }
+
+    private PersonColumns.Rows mainRun() {
+      return new PersonColumns.Rows(ids, colors, firstNames, lastNames, zipCodes, cities, size);
+    }
+
+    private PersonColumns snapshot() {
+      return new PersonColumns(mainRun(), delta, dictionary, dictionarySize);
+    }
+
+    /**
+     * Estimates the heap used by the writer's map from strings to dictionary codes, whose keys
+     * are shared with the dictionary.
+     */
+    private long estimatedEncoderBytes() {
+      long table = 16L + Integer.highestOneBit(Math.max(1, codes.size() * 4 / 3)) * 2 * 4L;
+      return table + codes.size() * (32L + 16L);
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package org.dci.assecorassessmentbackend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Serialized JSON bodies of the person lists, so that repeated list requests are answered by
+ * writing a prepared buffer instead of mapping and serializing every person again.
+ *
+ * <p>There is one body for all persons and one per color, each tagged with the
+ * {@link PersonDataVersion} generation it was built for. The next request for a list whose
+ * generation advanced since builds its body again; requests for the same list wait for a single
+ * build.
+ *
+ * <p>Bodies are kept in memory, so the cache is disabled by default and each body is limited to
+ * {@code app.response-cache.max-body-size}. A list exceeding it stops being serialized as soon as
+ * the limit is reached and is marked as too large for its generation, so that its requests are
+ * streamed by the controller instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.response-cache.enabled", havingValue = "true")
+public class PersonResponseCache {
+
+  private static final Color[] COLORS = Color.values();
+
+  /**
+   * Slot of the list of all persons, following the slots of the colors.
+   */
+  private static final int ALL = COLORS.length;
+
+  private final PersonService personService;
+  private final PersonDataVersion personDataVersion;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter writer;
+  private final boolean gzip;
+  private final int maxBodySize;
+
+  private final AtomicReferenceArray<CachedResponse> responses =
+      new AtomicReferenceArray<>(ALL + 1);
+  private final ReentrantLock[] buildLocks = new ReentrantLock[ALL + 1];
+
+  /**
+   * Constructor-based dependency injection for PersonResponseCache.
+   *
+   * @param personService     Service streaming the persons of a list.
+   * @param personDataVersion Versions the bodies are built for.
+   * @param objectMapper      Mapper used to serialize the lists.
+   * @param gzip              Whether a gzip-compressed copy of every body is kept as well.
+   * @param maxBodySize       Largest JSON body kept; larger lists are not cached.
+   */
+  public PersonResponseCache(PersonService personService, PersonDataVersion personDataVersion,
+      ObjectMapper objectMapper, @Value("${app.response-cache.gzip:true}") boolean gzip,
+      @Value("${app.response-cache.max-body-size:8MB}") DataSize maxBodySize) {
+    this.personService = personService;
+    this.personDataVersion = personDataVersion;
+    this.objectMapper = objectMapper;
+    this.writer = objectMapper.writerFor(PersonDto.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.gzip = gzip;
+    this.maxBodySize = (int) Math.min(maxBodySize.toBytes(), Integer.MAX_VALUE - 8);
+    for (int i = 0; i < buildLocks.length; i++) {
+      buildLocks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Returns the serialized list of all persons, building it if the data changed since.
+   *
+   * @return The body for the current data generation, possibly marked as too large.
+   */
+  public CachedResponse getAllPersons() {
+    return get(ALL);
+  }
+
+  /**
+   * Returns the serialized list of the persons with a color, building it if the data changed
+   * since.
+   *
+   * @param color The color to filter by.
+   * @return The body for the current data generation, possibly marked as too large.
+   */
+  public CachedResponse getPersonsByColor(Color color) {
+    return get(color.ordinal());
+  }
+
+  /**
+   * Whether the bodies are also kept gzip-compressed.
+   *
+   * @return {@code true} if {@link CachedResponse#gzip()} is available.
+   */
+  public boolean isGzipEnabled() {
+    return gzip;
+  }
+
+  private CachedResponse get(int slot) {
+    CachedResponse response = responses.get(slot);
+    if (response != null && response.generation() == currentGeneration(slot)) {
+      return response;
+    }
+
+    ReentrantLock lock = buildLocks[slot];
+    lock.lock();
+    try {
+      // The generation is read before the data, so a change committed while building leaves
+      // the body outdated and it is built again by the next request.
+      long generation = currentGeneration(slot);
+      response = responses.get(slot);
+      if (response != null && response.generation() == generation) {
+        return response;
+      }
+      response = build(slot, generation);
+      responses.set(slot, response);
+      return response;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long currentGeneration(int slot) {
+    return slot == ALL
+        ? personDataVersion.ofAllPersons().generation()
+        : personDataVersion.ofColor(COLORS[slot]).generation();
+  }
+
+  private CachedResponse build(int slot, long generation) {
+    long start = System.nanoTime();
+    String list = slot == ALL ? "all persons" : COLORS[slot].getDisplayName();
+    BoundedOutputStream out = new BoundedOutputStream(maxBodySize);
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      generator.setRootValueSeparator(null);
+      generator.writeStartArray();
+      Consumer<PersonDto> consumer = personDto -> {
+        try {
+          writer.writeValue(generator, personDto);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      };
+      if (slot == ALL) {
+        personService.streamAllPersons(consumer);
+      } else {
+        personService.streamPersonsByColor(COLORS[slot], consumer);
+      }
+      generator.writeEndArray();
+    } catch (IOException e) {
+      if (!out.exceeded) {
+        throw new UncheckedIOException(e);
+      }
+    } catch (RuntimeException e) {
+      // Jackson or the database stream may wrap the failure of the buffer.
+      if (!out.exceeded) {
+        throw e;
+      }
+    }
+    if (out.exceeded) {
+      log.debug("Response body of {} for generation {} exceeds {} bytes, it is streamed", list,
+          generation, maxBodySize);
+      return new CachedResponse(generation, null, null);
+    }
+
+    byte[] compressed = gzip ? compress(out) : null;
+    byte[] json = out.toByteArray();
+    log.debug("Built response body of {} for generation {} in {} ms: {} bytes, {} gzipped",
+        list, generation, (System.nanoTime() - start) / 1_000_000, json.length,
+        compressed != null ? compressed.length : "not");
+    return new CachedResponse(generation, json, compressed);
+  }
+
+  private static byte[] compress(ByteArrayOutputStream json) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.size() / 4 + 64);
+    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+      json.writeTo(gzipOut);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Buffer refusing to grow beyond a limit, so that serializing a large list fails early instead
+   * of holding it in memory.
+   */
+  private static final class BoundedOutputStream extends ByteArrayOutputStream {
+
+    private final int limit;
+    private boolean exceeded;
+
+    private BoundedOutputStream(int limit) {
+      super(Math.min(limit, 64 * 1024));
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) {
+      ensureCapacity(1);
+      super.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      ensureCapacity(len);
+      super.write(b, off, len);
+    }
+
+    private void ensureCapacity(int len) {
+      if (exceeded || len > limit - count) {
+        exceeded = true;
+        throw new UncheckedIOException(new IOException("Response body exceeds " + limit
+            + " bytes"));
+      }
+    }
+  }
+
+  /**
+   * Serialized body of a person list.
+   *
+   * @param generation Data generation the body was built for.
+   * @param json       The JSON array, or {@code null} if the list is too large to be cached.
+   * @param gzip       The gzip-compressed JSON array, or {@code null} if compression is
+   *                   disabled or the list is too large.
+   */
+  public record CachedResponse(long generation, byte[] json, byte[] gzip) {
+
+    /**
+     * Whether the list exceeded the size limit and must be streamed instead.
+     *
+     * @return {@code true} if there is no body.
+     */
+    public boolean tooLarge() {
+      return json == null;
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package org.dci.assecorassessmentbackend.service;
+
+import io.micrometer.core.annotation.Timed;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.coyote.BadRequestException;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.dto.PersonPageDto;
+import org.dci.assecorassessmentbackend.exception.ServiceUnavailableException;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Searches persons by zip code prefix or range, optionally of one color, and by name or city.
+ * The matching IDs are looked up in the in-memory indexes and the persons then projected by
+ * primary key.
+ *
+ * <p>Zip code results are ordered by zip code and then ID and paged by the zip code and ID of the
+ * last person of the previous page; while the {@link PersonZipCodeIndex} is not available, the
+ * zip code index of the database is queried instead. Name searches need the
+ * {@link PersonTrigramIndex}, since the database has no index for substrings.
+ */
+@Service
+public class PersonSearchService {
+
+  private static final int ZIP_CODE_LENGTH = 5;
+
+  private final PersonRepository personRepository;
+  private final PersonZipCodeIndex personZipCodeIndex;
+  private final PersonTrigramIndex personTrigramIndex;
+  private final PersonReadModel personReadModel;
+
+  /**
+   * Constructor-based dependency injection for PersonSearchService.
+   *
+   * @param personRepository   Repository for Person entities.
+   * @param personZipCodeIndex In-memory index of the persons by zip code.
+   * @param personTrigramIndex In-memory index of the trigrams of the names and cities.
+   * @param personReadModel    Optional in-memory copy of all persons to resolve the IDs from.
+   */
+  public PersonSearchService(PersonRepository personRepository,
+      PersonZipCodeIndex personZipCodeIndex, PersonTrigramIndex personTrigramIndex,
+      PersonReadModel personReadModel) {
+    this.personRepository = personRepository;
+    this.personZipCodeIndex = personZipCodeIndex;
+    this.personTrigramIndex = personTrigramIndex;
+    this.personReadModel = personReadModel;
+  }
+
+  /**
+   * Retrieves the persons whose first name, last name or city match a query best. Matching
+   * ignores case and umlaut spellings and tolerates typos, see {@link PersonTrigramIndex}.
+   *
+   * @param query The query, e.g. the beginning of a name.
+   * @param limit Maximum number of persons to return.
+   * @return The best matches, best first.
+   * @throws BadRequestException         if the query is too short or the limit is invalid.
+   * @throws ServiceUnavailableException if the index is being rebuilt or disabled.
+   */
+  @Timed(PersonService.TIMER_NAME)
+  @Transactional(readOnly = true)
+  public List<PersonDto> searchByName(String query, int limit) throws BadRequestException {
+    if (PersonTrigramIndex.trigrams(query).isEmpty()) {
+      throw new BadRequestException("Invalid query: " + query + ", must have at least "
+          + PersonTrigramIndex.MIN_QUERY_LENGTH + " letters or digits in a row");
+    }
+    checkLimit(limit);
+    long[] ids = personTrigramIndex.find(query, limit)
+        .orElseThrow(() -> new ServiceUnavailableException(
+            "Name search is unavailable while the index is built"));
+    return findAllInOrder(ids);
+  }
+
+  /**
+   * Retrieves a page of the persons whose zip code starts with a prefix or lies in a range.
+   *
+   * @param zipPrefix Leading digits of the zip code; excludes {@code zipFrom} and {@code zipTo}.
+   * @param zipFrom   Smallest zip code, inclusive; {@code 00000} when absent.
+   * @param zipTo     Largest zip code, inclusive; {@code 99999} when absent.
+   * @param color     The color to filter by, or {@code null} for any color.
+   * @param limit     Maximum number of persons on the page.
+   * @param after     Token of the previous page, or {@code null} for the first page.
+   * @return The page with a token for the next page.
+   * @throws BadRequestException if the zip codes, the color, the limit or the token are invalid.
+   */
+  @Timed(PersonService.TIMER_NAME)
+  @Transactional(readOnly = true)
+  public PersonPageDto searchByZipCode(String zipPrefix, String zipFrom, String zipTo,
+      String color, int limit, String after) throws BadRequestException {
+    int from;
+    int to;
+    if (zipPrefix != null) {
+      if (zipFrom != null || zipTo != null) {
+        throw new BadRequestException("Either zipPrefix or zipFrom and zipTo can be given");
+      }
+      if (zipPrefix.isEmpty() || zipPrefix.length() > ZIP_CODE_LENGTH
+          || !isDigits(zipPrefix)) {
+        throw new BadRequestException("Invalid zip code prefix: " + zipPrefix);
+      }
+      int scale = (int) Math.pow(10, ZIP_CODE_LENGTH - zipPrefix.length());
+      from = Integer.parseInt(zipPrefix) * scale;
+      to = from + scale - 1;
+    } else if (zipFrom != null || zipTo != null) {
+      from = zipFrom == null ? 0 : parseZipCode(zipFrom);
+      to = zipTo == null ? PersonZipCodeIndex.ZIP_CODES - 1 : parseZipCode(zipTo);
+    } else {
+      throw new BadRequestException("Either zipPrefix or zipFrom and zipTo must be given");
+    }
+    Color colorEnum = parseColor(color);
+    checkLimit(limit);
+    Cursor cursor = decodeCursor(after);
+
+    Optional<long[]> ids = personZipCodeIndex.find(from, to, colorEnum, cursor.zipCode(),
+        cursor.id(), limit + 1);
+    List<PersonDto> persons;
+    if (ids.isPresent()) {
+      persons = findAllInOrder(ids.get());
+    } else {
+      boolean continued = cursor.zipCode() >= from;
+      String afterZip = format(continued ? cursor.zipCode() : from);
+      Long afterId = continued ? cursor.id() : 0L;
+      persons = colorEnum == null
+          ? personRepository.findZipCodeRangePage(afterZip, afterId, format(to),
+          Limit.of(limit + 1))
+          : personRepository.findZipCodeRangePageByColor(colorEnum, afterZip, afterId, format(to),
+              Limit.of(limit + 1));
+    }
+    return toPage(persons, limit);
+  }
+
+  /**
+   * Returns the persons with the given IDs in the order of the IDs, from the read model when it is
+   * available and otherwise projected by one query.
+   */
+  private List<PersonDto> findAllInOrder(long[] ids) {
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      List<PersonDto> persons = new ArrayList<>(ids.length);
+      for (long id : ids) {
+        columns.get().findById(id).ifPresent(persons::add);
+      }
+      return persons;
+    }
+    List<Long> boxed = new ArrayList<>(ids.length);
+    for (long id : ids) {
+      boxed.add(id);
+    }
+    Map<Long, PersonDto> byId = new HashMap<>();
+    for (PersonDto person : personRepository.findDtosByIds(boxed)) {
+      byId.put(person.getId(), person);
+    }
+    List<PersonDto> persons = new ArrayList<>(ids.length);
+    for (Long id : boxed) {
+      PersonDto person = byId.get(id);
+      if (person != null) {
+        persons.add(person);
+      }
+    }
+    return persons;
+  }
+
+  /**
+   * Returns up to {@code limit} persons, one more than that having been queried to find out
+   * whether there is a next page.
+   */
+  private PersonPageDto toPage(List<PersonDto> persons, int limit) {
+    List<PersonDto> items = persons.size() > limit ? persons.subList(0, limit) : persons;
+    String next = persons.size() > limit ? encodeCursor(items.getLast()) : null;
+    return new PersonPageDto(items, next);
+  }
+
+  private static void checkLimit(int limit) throws BadRequestException {
+    if (limit < 1 || limit > PersonService.MAX_PAGE_SIZE) {
+      throw new BadRequestException(
+          "Invalid limit: " + limit + ", must be between 1 and " + PersonService.MAX_PAGE_SIZE);
+    }
+  }
+
+  private static int parseZipCode(String zipCode) throws BadRequestException {
+    int packed = PersonZipCodeIndex.pack(zipCode);
+    if (packed < 0) {
+      throw new BadRequestException("Invalid zip code: " + zipCode);
+    }
+    return packed;
+  }
+
+  private static boolean isDigits(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String format(int zipCode) {
+    return String.format("%05d", zipCode);
+  }
+
+  private static Color parseColor(String color) throws BadRequestException {
+    if (color == null) {
+      return null;
+    }
+    try {
+      return Color.fromDisplayName(color);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid color: " + color, e);
+    }
+  }
+
+  private static String encodeCursor(PersonDto person) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(
+        (person.getZipCode() + ":" + person.getId()).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decodes a page token into the zip code and ID of the last person of the previous page.
+   *
+   * @param cursor The token, or {@code null} for the first page.
+   * @return The position after which the page starts.
+   * @throws BadRequestException if the token is invalid.
+   */
+  private static Cursor decodeCursor(String cursor) throws BadRequestException {
+    if (cursor == null || cursor.isEmpty()) {
+      return new Cursor(-1, 0L);
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.US_ASCII).split(":", 2);
+      int zipCode = PersonZipCodeIndex.pack(parts[0]);
+      if (parts.length != 2 || zipCode < 0) {
+        throw new IllegalArgumentException("Malformed page token");
+      }
+      return new Cursor(zipCode, Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid page token: " + cursor, e);
+    }
+  }
+
+  /**
+   * Zip code and ID of the last person of the previous page.
+   */
+  private record Cursor(int zipCode, long id) {
+
+  }
+}
@@ -1,15 +1,28 @@
 package org.dci.assecorassessmentbackend.service;
 
+import io.micrometer.core.annotation.Timed;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.coyote.BadRequestException;
+import org.dci.assecorassessmentbackend.config.CacheConfig;
 import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
 import org.dci.assecorassessmentbackend.dto.PersonDto;
 import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.dto.PersonPageDto;
+import org.dci.assecorassessmentbackend.dto.PersonStatsDto;
 import org.dci.assecorassessmentbackend.exception.ResourceNotFoundException;
+import org.dci.assecorassessmentbackend.exception.ServiceUnavailableException;
 import org.dci.assecorassessmentbackend.model.Color;
 import org.dci.assecorassessmentbackend.model.Person;
 import org.dci.assecorassessmentbackend.repository.PersonRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,25 +31,49 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class PersonService {
 
+  /**
+   * Largest page size accepted by the paged queries.
+   */
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  /**
+   * Name of the timer of the service methods, tagged with the class and method name.
+   */
+  public static final String TIMER_NAME = "persons.service";
+
   private final PersonRepository personRepository;
   private final PersonMapper personMapper;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PersonColorIndex personColorIndex;
+  private final PersonReadModel personReadModel;
+  private final PersonStatistics personStatistics;
 
   @Autowired
-  public PersonService(PersonRepository personRepository, PersonMapper personMapper) {
+  public PersonService(PersonRepository personRepository, PersonMapper personMapper,
+      ApplicationEventPublisher eventPublisher,
+      PersonColorIndex personColorIndex, PersonReadModel personReadModel,
+      PersonStatistics personStatistics) {
     this.personRepository = personRepository;
     this.personMapper = personMapper;
+    this.eventPublisher = eventPublisher;
+    this.personColorIndex = personColorIndex;
+    this.personReadModel = personReadModel;
+    this.personStatistics = personStatistics;
   }
 
   /**
-   * Retrieves all persons and maps them to PersonDto.
+   * Retrieves all persons as PersonDto, projected by the query without loading entities.
    *
    * @return List of PersonDto
    */
+  @Timed(TIMER_NAME)
   @Transactional(readOnly = true)
   public List<PersonDto> getAllPersons() {
-    return personRepository.findAll().stream()
-        .map(this::mapToPersonDto)
-        .toList();
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      return columns.get().findAll();
+    }
+    return personRepository.findAllDtos();
   }
 
   /**
@@ -46,27 +83,148 @@ public class PersonService {
    * @return PersonDto of the person with the specified ID.
    * @throws ResponseStatusException if the person is not found or if mapping fails.
    */
+  @Cacheable(cacheNames = CacheConfig.PERSON_BY_ID, keyGenerator = "personIdKeyGenerator")
+  @Timed(TIMER_NAME)
   @Transactional(readOnly = true)
   public PersonDto getPersonById(String id) {
     Long personId = parseId(id);
-    Person person = personRepository.findById(personId)
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      return columns.get().findById(personId)
+          .orElseThrow(() -> new ResourceNotFoundException("Person not found with ID: " + id));
+    }
+    return personRepository.findDtoById(personId)
         .orElseThrow(() -> new ResourceNotFoundException("Person not found with ID: " + id));
-    return mapToPersonDto(person);
   }
 
   /**
-   * Retrieves all persons filtered by a specific color.
+   * Retrieves all persons filtered by a specific color, from the in-memory color index when it is
+   * available.
    *
    * @param color The color to filter by.
    * @return List of PersonDto filtered by the specified color.
    * @throws ResourceNotFoundException if the color is not recognized.
    */
+  @Cacheable(cacheNames = CacheConfig.PERSONS_BY_COLOR, keyGenerator = "colorKeyGenerator")
+  @Timed(TIMER_NAME)
   @Transactional(readOnly = true)
   public List<PersonDto> getAllPersonsByColor(String color) {
     Color colorEnum = parseColor(color);
-    return personRepository.findByColor(colorEnum).stream()
-        .map(this::mapToPersonDto)
-        .toList();
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      return columns.get().findByColor(colorEnum);
+    }
+    return personColorIndex.findByColor(colorEnum)
+        .orElseGet(() -> personRepository.findDtosByColor(colorEnum));
+  }
+
+  /**
+   * Retrieves a page of persons in ID order. The page is located by the last ID of the previous
+   * page rather than an offset, so every page costs the same regardless of its depth.
+   *
+   * @param limit Maximum number of persons on the page.
+   * @param after Token of the previous page, or {@code null} for the first page.
+   * @return The page with a token for the next page.
+   * @throws BadRequestException if the limit or the token is invalid.
+   */
+  @Timed(TIMER_NAME)
+  @Transactional(readOnly = true)
+  public PersonPageDto getPersonsPage(int limit, String after) throws BadRequestException {
+    Long afterId = decodeCursor(after);
+    checkPageSize(limit);
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      return toPage(columns.get().findPage(null, afterId, limit + 1), limit);
+    }
+    return toPage(personRepository.findDtoPage(afterId, Limit.of(limit + 1)), limit);
+  }
+
+  /**
+   * Retrieves a page of persons with a specific color in ID order.
+   *
+   * @param color The color to filter by.
+   * @param limit Maximum number of persons on the page.
+   * @param after Token of the previous page, or {@code null} for the first page.
+   * @return The page with a token for the next page.
+   * @throws BadRequestException       if the limit or the token is invalid.
+   * @throws ResourceNotFoundException if the color is not recognized.
+   */
+  @Timed(TIMER_NAME)
+  @Transactional(readOnly = true)
+  public PersonPageDto getPersonsPageByColor(String color, int limit, String after)
+      throws BadRequestException {
+    Color colorEnum = parseColor(color);
+    Long afterId = decodeCursor(after);
+    checkPageSize(limit);
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      return toPage(columns.get().findPage(colorEnum, afterId, limit + 1), limit);
+    }
+    return toPage(personRepository.findDtoPageByColor(colorEnum, afterId, Limit.of(limit + 1)),
+        limit);
+  }
+
+  /**
+   * Streams all persons through a database cursor, projected by the query without loading
+   * entities, so that only a single fetch of PersonDto is held in memory at a time.
+   *
+   * @param consumer Receives every PersonDto in ID order.
+   */
+  @Timed(TIMER_NAME)
+  @Transactional(readOnly = true)
+  public void streamAllPersons(Consumer<PersonDto> consumer) {
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      columns.get().forEach(null, consumer);
+      return;
+    }
+    try (Stream<PersonDto> persons = personRepository.streamAllDtos()) {
+      persons.forEach(consumer);
+    }
+  }
+
+  /**
+   * Streams all persons with a specific color through a database cursor.
+   *
+   * @param color    The color to filter by.
+   * @param consumer Receives every PersonDto in ID order.
+   */
+  @Timed(TIMER_NAME)
+  @Transactional(readOnly = true)
+  public void streamPersonsByColor(Color color, Consumer<PersonDto> consumer) {
+    Optional<PersonColumns> columns = personReadModel.snapshot();
+    if (columns.isPresent()) {
+      columns.get().forEach(color, consumer);
+      return;
+    }
+    try (Stream<PersonDto> persons = personRepository.streamDtosByColor(color)) {
+      persons.forEach(consumer);
+    }
+  }
+
+  /**
+   * Retrieves the number of persons per color, city and zip code region from live counters,
+   * without querying the database.
+   *
+   * @return The counts.
+   * @throws ServiceUnavailableException if the persons have not been counted yet.
+   */
+  @Timed(TIMER_NAME)
+  public PersonStatsDto getStatistics() {
+    return personStatistics.snapshot()
+        .orElseThrow(() -> new ServiceUnavailableException(
+            "Statistics are unavailable until the persons have been counted"));
+  }
+
+  /**
+   * Parses and validates a color from its display name.
+   *
+   * @param color The color display name.
+   * @return The corresponding Color enum.
+   * @throws ResourceNotFoundException if the color is not recognized.
+   */
+  public Color resolveColor(String color) {
+    return parseColor(color);
   }
 
   /**
@@ -76,12 +234,14 @@ public class PersonService {
    * @return The created person's PersonDto.
    * @throws ResponseStatusException if an invalid color is provided or mapping fails.
    */
+  @Timed(TIMER_NAME)
   @Transactional
   public PersonDto createPerson(PersonCreateDto personCreateDto) throws BadRequestException {
     Color colorEnum = parseColor(personCreateDto.getColor());
     Person person = personMapper.toPerson(personCreateDto);
     person.setColor(colorEnum);
     Person createdPerson = personRepository.save(person);
+    eventPublisher.publishEvent(PersonsChangedEvent.added(List.of(createdPerson)));
     return mapToPersonDto(createdPerson);
   }
 
@@ -101,6 +261,47 @@ public class PersonService {
     }
   }
 
+  /**
+   * Returns up to {@code limit} persons, one more than that having been queried to find out
+   * whether there is a next page.
+   */
+  private PersonPageDto toPage(List<PersonDto> persons, int limit) {
+    List<PersonDto> items = persons.size() > limit ? persons.subList(0, limit) : persons;
+    String next = persons.size() > limit ? encodeCursor(items.getLast().getId()) : null;
+    return new PersonPageDto(items, next);
+  }
+
+  private void checkPageSize(int limit) throws BadRequestException {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new BadRequestException(
+          "Invalid limit: " + limit + ", must be between 1 and " + MAX_PAGE_SIZE);
+    }
+  }
+
+  private static String encodeCursor(Long id) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(id.toString().getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Decodes a page token into the last ID of the previous page.
+   *
+   * @param cursor The token, or {@code null} for the first page.
+   * @return The ID after which the page starts.
+   * @throws BadRequestException if the token is invalid.
+   */
+  private static Long decodeCursor(String cursor) throws BadRequestException {
+    if (cursor == null || cursor.isEmpty()) {
+      return 0L;
+    }
+    try {
+      return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.US_ASCII));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Invalid page token: " + cursor, e);
+    }
+  }
+
   /**
    * Parses and validates a color from its string representation.
    *
@@ -0,0 +1,181 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.dci.assecorassessmentbackend.dto.PersonStatsDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.stereotype.Component;
+
+/**
+ * Live counts of the persons per color, per city and per zip code region, the first two digits
+ * of the zip code, so that statistics never need a {@code GROUP BY} over the table.
+ *
+ * <p>The counters are incremented for every added person. Bulk changes count all persons again
+ * through {@link PersonIndexes} into fresh counters, which replace the previous ones once
+ * complete, so the previous counts are served meanwhile.
+ */
+@Component
+public class PersonStatistics implements PersonIndex {
+
+  private static final Color[] COLORS = Color.values();
+
+  /**
+   * Number of two-digit zip code regions.
+   */
+  private static final int ZIP_REGIONS = 100;
+
+  /**
+   * Two-digit labels of the zip code regions.
+   */
+  private static final String[] ZIP_REGION_LABELS = zipRegionLabels();
+
+  /**
+   * Current counters; {@code null} until the persons were counted once.
+   */
+  private volatile Counters counters;
+
+  /**
+   * Counts built by the last call of {@link #snapshot()}, reused until the counters change.
+   */
+  private volatile Cached cached;
+
+  /**
+   * Returns the current counts. Their sum may lag behind the total while persons are added.
+   * The counts are built once per change of the counters and shared between callers, so the
+   * returned maps are unmodifiable.
+   *
+   * @return The counts, or empty if the persons have not been counted yet.
+   */
+  public Optional<PersonStatsDto> snapshot() {
+    Counters current = counters;
+    if (current == null) {
+      return Optional.empty();
+    }
+    long version = current.version;
+    Cached last = cached;
+    if (last != null && last.counters() == current && last.version() == version) {
+      return Optional.of(last.stats());
+    }
+    PersonStatsDto stats = current.toStatsDto();
+    cached = new Cached(current, version, stats);
+    return Optional.of(stats);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public Rebuild rebuild() {
+    Counters rebuilt = new Counters();
+    return new Rebuild() {
+      @Override
+      public void add(Person person) {
+        rebuilt.add(person);
+      }
+
+      @Override
+      public void publish() {
+        counters = rebuilt;
+      }
+    };
+  }
+
+  @Override
+  public void add(List<Person> persons) {
+    Counters current = counters;
+    if (current != null) {
+      persons.forEach(current::add);
+      current.version++;
+    }
+  }
+
+  private static String[] zipRegionLabels() {
+    String[] labels = new String[ZIP_REGIONS];
+    for (int region = 0; region < ZIP_REGIONS; region++) {
+      labels[region] = String.format("%02d", region);
+    }
+    return labels;
+  }
+
+  /**
+   * Counts built from a version of the counters.
+   */
+  private record Cached(Counters counters, long version, PersonStatsDto stats) {
+
+  }
+
+  /**
+   * Counters of one count of the persons, incremented as persons are added.
+   */
+  private static final class Counters {
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder[] byColor = newAdders(COLORS.length);
+    private final Map<String, LongAdder> byCity = new ConcurrentHashMap<>();
+    private final LongAdder[] byZipRegion = newAdders(ZIP_REGIONS);
+
+    /**
+     * Incremented by the single writer after each batch of added persons.
+     */
+    private volatile long version;
+
+    private void add(Person person) {
+      total.increment();
+      if (person.getColor() != null) {
+        byColor[person.getColor().ordinal()].increment();
+      }
+      if (person.getCity() != null) {
+        byCity.computeIfAbsent(person.getCity(), city -> new LongAdder()).increment();
+      }
+      int region = zipRegion(person.getZipCode());
+      if (region >= 0) {
+        byZipRegion[region].increment();
+      }
+    }
+
+    private PersonStatsDto toStatsDto() {
+      Map<String, Long> byColorName = new LinkedHashMap<>();
+      for (Color color : COLORS) {
+        byColorName.put(color.getDisplayName(), byColor[color.ordinal()].sum());
+      }
+      Map<String, Long> byCityName = new TreeMap<>();
+      byCity.forEach((city, count) -> byCityName.put(city, count.sum()));
+      Map<String, Long> byRegion = new LinkedHashMap<>();
+      for (int region = 0; region < ZIP_REGIONS; region++) {
+        long count = byZipRegion[region].sum();
+        if (count > 0) {
+          byRegion.put(ZIP_REGION_LABELS[region], count);
+        }
+      }
+      return new PersonStatsDto(total.sum(), byColorName, byCityName, byRegion);
+    }
+
+    private static int zipRegion(String zipCode) {
+      if (zipCode == null || zipCode.length() < 2) {
+        return -1;
+      }
+      char first = zipCode.charAt(0);
+      char second = zipCode.charAt(1);
+      if (first < '0' || first > '9' || second < '0' || second > '9') {
+        return -1;
+      }
+      return (first - '0') * 10 + (second - '0');
+    }
+
+    private static LongAdder[] newAdders(int count) {
+      LongAdder[] adders = new LongAdder[count];
+      for (int i = 0; i < count; i++) {
+        adders[i] = new LongAdder();
+      }
+      return adders;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonBatchRepository;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Brings the persisted persons in line with the data source by applying only the changed rows.
+ */
+@Service
+public class PersonSyncService {
+
+  private final PersonRepository personRepository;
+  private final int batchSize;
+
+  /**
+   * Constructor-based dependency injection for PersonSyncService.
+   *
+   * @param personRepository Repository for Person entities.
+   * @param batchSize        Maximum number of IDs bound to a single update or delete statement.
+   */
+  public PersonSyncService(PersonRepository personRepository,
+      @Value(PersonBatchRepository.BATCH_SIZE) int batchSize) {
+    this.personRepository = personRepository;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Computes the difference between the persisted persons and the given ones and applies it in a
+   * single transaction.
+   *
+   * @param incoming       Persons read from the data source.
+   * @param changesApplied Receives the number of rows written with each statement or batch.
+   * @return The applied difference.
+   */
+  @Transactional
+  public PersonDiff synchronize(List<Person> incoming, IntConsumer changesApplied) {
+    PersonDiff diff = PersonDiff.compute(personRepository.findAll(), incoming);
+
+    forEachBatch(diff.getDeletes(), ids -> {
+      personRepository.deleteAllByIdInBatch(ids);
+      changesApplied.accept(ids.size());
+    });
+    for (Map.Entry<Color, List<Long>> update : diff.getColorUpdates().entrySet()) {
+      forEachBatch(update.getValue(), ids ->
+          changesApplied.accept(personRepository.updateColor(update.getKey(), ids)));
+    }
+    personRepository.saveInBatches(diff.getInserts(), changesApplied);
+    return diff;
+  }
+
+  private void forEachBatch(List<Long> ids, Consumer<List<Long>> action) {
+    for (int from = 0; from < ids.size(); from += batchSize) {
+      action.accept(ids.subList(from, Math.min(from + batchSize, ids.size())));
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index of the trigrams of the first names, last names and cities of the
+ * persons, answering fuzzy type-ahead lookups without scanning the table.
+ *
+ * <p>Texts are normalized before they are split into trigrams: case is folded, umlauts are
+ * transliterated ({@code ü} to {@code ue}, {@code ß} to {@code ss}), other diacritics are dropped
+ * and everything but letters and digits separates words. Every word is prefixed with a blank, so
+ * the first trigrams of a word also match queries for its beginning; {@code Müller} is indexed as
+ * {@code " mu"}, {@code "mue"}, {@code "uel"}, {@code "ell"}, {@code "lle"}, {@code "ler"}.
+ *
+ * <p>Every trigram has a posting list of the IDs of the persons containing it, stored in ascending
+ * order as variable-length encoded gaps, so that most IDs take one or two bytes. A lookup ranks
+ * the persons by the number of trigrams of the query they contain and keeps the best ones in a
+ * bounded heap, which tolerates typos and missing letters. The posting lists are merged in ID
+ * order, so the merge stops as soon as enough persons contain all trigrams of the query.
+ *
+ * <p>Readers get an immutable map of immutable posting lists, published through a volatile field,
+ * and never block. The single writer copies the map, appends the new persons behind the published
+ * length of their posting lists and publishes the new map at once, like {@link PersonColorIndex},
+ * so a lookup sees either all or none of the trigrams of a person. The index is rebuilt by
+ * {@link PersonIndexes} on every bulk change and is not available while rebuilding.
+ */
+@Component
+public class PersonTrigramIndex implements PersonIndex {
+
+  /**
+   * Shortest query, in normalized characters, that has a trigram.
+   */
+  public static final int MIN_QUERY_LENGTH = 2;
+
+  private final boolean enabled;
+
+  /**
+   * Posting lists by trigram; {@code null} while the index is not available.
+   */
+  private volatile Map<String, PostingList> postings;
+
+  /**
+   * Constructor-based dependency injection for PersonTrigramIndex.
+   *
+   * @param enabled Whether the index is maintained at all.
+   */
+  public PersonTrigramIndex(@Value("${app.index.trigram.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Normalizes a text for matching: folds case, transliterates umlauts and {@code ß}, drops other
+   * diacritics and replaces everything but letters and digits by blanks.
+   *
+   * @param text The text.
+   * @return The normalized text.
+   */
+  public static String normalize(String text) {
+    // Umlauts are folded after the decomposition, which writes them as a vowel and a diaeresis
+    // whether they came composed or not.
+    String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+        .replace("a\u0308", "ae")
+        .replace("o\u0308", "oe")
+        .replace("u\u0308", "ue")
+        .replace("ß", "ss");
+    StringBuilder normalized = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (Character.getType(c) == Character.NON_SPACING_MARK) {
+        continue;
+      }
+      normalized.append(Character.isLetterOrDigit(c) ? c : ' ');
+    }
+    return normalized.toString();
+  }
+
+  /**
+   * Returns the distinct trigrams of the normalized words of the given texts.
+   *
+   * @param texts The texts; {@code null} ones are skipped.
+   * @return The trigrams in order of their first occurrence.
+   */
+  public static Set<String> trigrams(String... texts) {
+    Set<String> trigrams = new LinkedHashSet<>();
+    for (String text : texts) {
+      if (text == null) {
+        continue;
+      }
+      for (String word : normalize(text).split(" ")) {
+        if (word.isEmpty()) {
+          continue;
+        }
+        String padded = " " + word;
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+          trigrams.add(padded.substring(i, i + 3));
+        }
+      }
+    }
+    return trigrams;
+  }
+
+  /**
+   * Finds the persons matching a query best, i.e. containing most of its trigrams in their first
+   * name, last name or city. At least half of the trigrams of the query have to match.
+   *
+   * @param query The query.
+   * @param limit Maximum number of persons to return.
+   * @return The IDs of the best matches, best first and by ID among equally good ones; empty if
+   * the index is not available.
+   */
+  public Optional<long[]> find(String query, int limit) {
+    Map<String, PostingList> current = postings;
+    if (current == null) {
+      return Optional.empty();
+    }
+    Set<String> trigrams = trigrams(query);
+    if (trigrams.isEmpty()) {
+      return Optional.of(new long[0]);
+    }
+
+    List<Cursor> open = new ArrayList<>(trigrams.size());
+    for (String trigram : trigrams) {
+      PostingList list = current.get(trigram);
+      if (list != null) {
+        Cursor cursor = new Cursor(list);
+        if (cursor.next()) {
+          open.add(cursor);
+        }
+      }
+    }
+    Cursor[] cursors = open.toArray(Cursor[]::new);
+    int remaining = cursors.length;
+    int minScore = (trigrams.size() + 1) / 2;
+    int perfectMatches = 0;
+
+    PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Match.WORST_FIRST);
+    while (remaining >= minScore && perfectMatches < limit) {
+      long id = Long.MAX_VALUE;
+      for (int i = 0; i < remaining; i++) {
+        id = Math.min(id, cursors[i].id());
+      }
+      int score = 0;
+      for (int i = 0; i < remaining; i++) {
+        if (cursors[i].id() == id) {
+          score++;
+          if (!cursors[i].next()) {
+            cursors[i--] = cursors[--remaining];
+          }
+        }
+      }
+      if (score >= minScore) {
+        best.add(new Match(id, score));
+        if (best.size() > limit) {
+          best.poll();
+        }
+        // IDs come in ascending order, so later persons cannot displace a full match.
+        if (score == trigrams.size()) {
+          perfectMatches++;
+        }
+      }
+    }
+
+    long[] ids = new long[best.size()];
+    for (int i = ids.length - 1; i >= 0; i--) {
+      ids[i] = best.poll().id();
+    }
+    return Optional.of(ids);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public Rebuild rebuild() {
+    postings = null;
+    Map<String, PostingList> rebuilt = new HashMap<>();
+    return new Rebuild() {
+      @Override
+      public void add(Person person) {
+        PersonTrigramIndex.add(rebuilt, person);
+      }
+
+      @Override
+      public void publish() {
+        postings = rebuilt;
+      }
+    };
+  }
+
+  /**
+   * Adds persons to a copy of the current posting lists and publishes it.
+   */
+  @Override
+  public void add(List<Person> persons) {
+    Map<String, PostingList> current = postings;
+    if (current == null) {
+      return;
+    }
+    Map<String, PostingList> updated = new HashMap<>(current);
+    persons.forEach(person -> add(updated, person));
+    postings = updated;
+  }
+
+  /**
+   * Adds a person to the posting lists of its trigrams in a map that is not published yet.
+   */
+  private static void add(Map<String, PostingList> postings, Person person) {
+    if (person.getId() == null) {
+      return;
+    }
+    for (String trigram : trigrams(person.getFirstName(), person.getLastName(),
+        person.getCity())) {
+      PostingList list = postings.get(trigram);
+      postings.put(trigram, (list == null ? PostingList.empty() : list).add(person.getId()));
+    }
+  }
+
+  /**
+   * The first {@code length} bytes of an array that may be shared with newer posting lists,
+   * holding IDs in ascending order, encoded as gaps of seven bits per byte with the high bit
+   * marking that more bytes follow.
+   */
+  private record PostingList(byte[] bytes, int length, long lastId) {
+
+    private static PostingList empty() {
+      return new PostingList(new byte[4], 0, 0L);
+    }
+
+    /**
+     * Returns the list with an ID added. IDs are usually added in ascending order and appended
+     * behind the length of this list; an ID below the last one makes the list be re-encoded, and
+     * an ID already present is ignored.
+     */
+    private PostingList add(long id) {
+      if (id > lastId) {
+        byte[] target = bytes;
+        if (target.length - length < 10) {
+          target = Arrays.copyOf(bytes, Math.max(bytes.length * 3 / 2, length + 10));
+        }
+        return new PostingList(target, writeGap(target, length, id - lastId), id);
+      }
+
+      Cursor cursor = new Cursor(this);
+      List<Long> ids = new ArrayList<>();
+      while (cursor.next()) {
+        ids.add(cursor.id());
+      }
+      int position = -Collections.binarySearch(ids, id) - 1;
+      if (position < 0) {
+        return this;
+      }
+      ids.add(position, id);
+      byte[] target = new byte[length + 10];
+      int written = 0;
+      long previous = 0L;
+      for (long each : ids) {
+        written = writeGap(target, written, each - previous);
+        previous = each;
+      }
+      return new PostingList(target, written, lastId);
+    }
+
+    private static int writeGap(byte[] bytes, int position, long gap) {
+      while (gap >= 0x80) {
+        bytes[position++] = (byte) (gap | 0x80);
+        gap >>>= 7;
+      }
+      bytes[position++] = (byte) gap;
+      return position;
+    }
+  }
+
+  /**
+   * Person matching a query with the number of its trigrams.
+   */
+  private record Match(long id, int score) {
+
+    /**
+     * Orders the worse matches first: fewer trigrams, then a greater ID.
+     */
+    private static final Comparator<Match> WORST_FIRST = Comparator.comparingInt(Match::score)
+        .thenComparing(Comparator.comparingLong(Match::id).reversed());
+  }
+
+  /**
+   * Decodes the IDs of a posting list one by one.
+   */
+  private static final class Cursor {
+
+    private final PostingList list;
+    private int position;
+    private long id;
+
+    Cursor(PostingList list) {
+      this.list = list;
+    }
+
+    long id() {
+      return id;
+    }
+
+    boolean next() {
+      if (position >= list.length()) {
+        return false;
+      }
+      long gap = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = list.bytes()[position++];
+        gap |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      id += gap;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of the persons by zip code, answering zip code prefix and range lookups with
+ * binary searches instead of table scans.
+ *
+ * <p>The five-digit zip codes are packed into ints and kept in parallel primitive arrays of zip
+ * codes, IDs and color ordinals, sorted by zip code and then ID; about 13 bytes per person. Added
+ * persons go into a small sorted delta run, which is merged into the main run once it has reached
+ * a fixed size, so adding a person does not copy the whole index. Readers get an immutable
+ * snapshot of both runs through a volatile field and never block.
+ *
+ * <p>Persons whose zip code is not exactly five digits are not indexed. Persons without a color are
+ * indexed with {@link #NO_COLOR}, so they match lookups for any color like in the database. The index is rebuilt by
+ * {@link PersonIndexes} on every bulk change and is not available while rebuilding, in which case
+ * callers fall back to the database.
+ */
+@Component
+public class PersonZipCodeIndex implements PersonIndex {
+
+  /**
+   * Number of distinct five-digit zip codes.
+   */
+  public static final int ZIP_CODES = 100_000;
+
+  /**
+   * Size of the delta run at which it is merged into the main run. Every addition copies the
+   * delta run and every merge the main run, so this balances the two for large indexes.
+   */
+  private static final int MERGE_SIZE = 4096;
+
+  /**
+   * Color entry of a person without a color, which no color ordinal is equal to.
+   */
+  private static final byte NO_COLOR = -1;
+
+  private final boolean enabled;
+
+  /**
+   * Current runs; {@code null} while the index is not available.
+   */
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructor-based dependency injection for PersonZipCodeIndex.
+   *
+   * @param enabled Whether the index is maintained at all.
+   */
+  public PersonZipCodeIndex(@Value("${app.index.zip-code.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Packs a zip code into an int.
+   *
+   * @param zipCode The zip code.
+   * @return The zip code as a number, or -1 if it is not exactly five ASCII digits.
+   */
+  public static int pack(String zipCode) {
+    if (zipCode == null || zipCode.length() != 5) {
+      return -1;
+    }
+    int packed = 0;
+    for (int i = 0; i < 5; i++) {
+      char c = zipCode.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      packed = packed * 10 + (c - '0');
+    }
+    return packed;
+  }
+
+  /**
+   * Finds the IDs of the persons with a zip code in a range, ordered by zip code and then ID,
+   * starting after a given zip code and ID.
+   *
+   * @param from     Smallest zip code, inclusive.
+   * @param to       Largest zip code, inclusive.
+   * @param color    Color the persons must have, or {@code null} for any color.
+   * @param afterZip Zip code of the last person of the previous page, or -1.
+   * @param afterId  ID of the last person of the previous page.
+   * @param limit    Maximum number of IDs to return.
+   * @return The IDs, or empty if the index is not available.
+   */
+  public Optional<long[]> find(int from, int to, Color color, int afterZip, long afterId,
+      int limit) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return Optional.empty();
+    }
+    if (afterZip < from) {
+      afterZip = from - 1;
+      afterId = Long.MAX_VALUE;
+    }
+
+    Run base = current.base();
+    Run delta = current.delta();
+    int i = base.firstAfter(afterZip, afterId);
+    int j = delta.firstAfter(afterZip, afterId);
+    int wanted = color == null ? -1 : color.ordinal();
+    long[] ids = new long[Math.min(limit, 1024)];
+    int found = 0;
+    while (found < limit) {
+      Run run;
+      int position;
+      if (i < base.size() && (j >= delta.size() || base.compare(i, delta, j) < 0)) {
+        run = base;
+        position = i++;
+      } else if (j < delta.size()) {
+        run = delta;
+        position = j++;
+      } else {
+        break;
+      }
+      if (run.zipCodes()[position] > to) {
+        break;
+      }
+      if (wanted < 0 || run.colors()[position] == wanted) {
+        if (found == ids.length) {
+          ids = Arrays.copyOf(ids, Math.min(limit, ids.length * 2));
+        }
+        ids[found++] = run.ids()[position];
+      }
+    }
+    return Optional.of(Arrays.copyOf(ids, found));
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Collects the persons in ID order and sorts them by zip code with a counting sort on publish,
+   * which keeps the ID order within a zip code.
+   */
+  @Override
+  public Rebuild rebuild() {
+    snapshot = null;
+    return new Rebuild() {
+      private final int[] counts = new int[ZIP_CODES + 1];
+      private int[] zipCodes = new int[1024];
+      private long[] ids = new long[1024];
+      private byte[] colors = new byte[1024];
+      private int size;
+
+      @Override
+      public void add(Person person) {
+        int zipCode = pack(person.getZipCode());
+        if (zipCode < 0) {
+          return;
+        }
+        if (size == ids.length) {
+          zipCodes = Arrays.copyOf(zipCodes, size * 2);
+          ids = Arrays.copyOf(ids, size * 2);
+          colors = Arrays.copyOf(colors, size * 2);
+        }
+        zipCodes[size] = zipCode;
+        ids[size] = person.getId();
+        colors[size] = colorOf(person);
+        size++;
+        counts[zipCode + 1]++;
+      }
+
+      @Override
+      public void publish() {
+        for (int zipCode = 0; zipCode < ZIP_CODES; zipCode++) {
+          counts[zipCode + 1] += counts[zipCode];
+        }
+        int[] sortedZipCodes = new int[size];
+        long[] sortedIds = new long[size];
+        byte[] sortedColors = new byte[size];
+        for (int k = 0; k < size; k++) {
+          int target = counts[zipCodes[k]]++;
+          sortedZipCodes[target] = zipCodes[k];
+          sortedIds[target] = ids[k];
+          sortedColors[target] = colors[k];
+        }
+        snapshot = new Snapshot(new Run(sortedZipCodes, sortedIds, sortedColors, size),
+            Run.EMPTY);
+      }
+    };
+  }
+
+  /**
+   * Adds persons to the delta run and publishes a new snapshot, merging the delta run into the
+   * main run once it has grown large enough.
+   */
+  @Override
+  public void add(List<Person> persons) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return;
+    }
+    List<Person> added = new ArrayList<>(persons.size());
+    for (Person person : persons) {
+      if (pack(person.getZipCode()) >= 0) {
+        added.add(person);
+      }
+    }
+    if (added.isEmpty()) {
+      return;
+    }
+
+    added.sort(Comparator.comparingInt((Person person) -> pack(person.getZipCode()))
+        .thenComparing(Person::getId));
+    int[] zipCodes = new int[added.size()];
+    long[] ids = new long[added.size()];
+    byte[] colors = new byte[added.size()];
+    for (int k = 0; k < added.size(); k++) {
+      zipCodes[k] = pack(added.get(k).getZipCode());
+      ids[k] = added.get(k).getId();
+      colors[k] = colorOf(added.get(k));
+    }
+    Run delta = Run.merge(current.delta(), new Run(zipCodes, ids, colors, added.size()));
+    if (delta.size() >= MERGE_SIZE) {
+      snapshot = new Snapshot(Run.merge(current.base(), delta), Run.EMPTY);
+    } else {
+      snapshot = new Snapshot(current.base(), delta);
+    }
+  }
+
+  /**
+   * Returns the color entry of a person.
+   */
+  private static byte colorOf(Person person) {
+    return person.getColor() == null ? NO_COLOR : (byte) person.getColor().ordinal();
+  }
+
+  /**
+   * Main run and delta run of the index.
+   */
+  private record Snapshot(Run base, Run delta) {
+
+  }
+
+  /**
+   * Entries sorted by zip code and then ID in parallel arrays; never modified once published.
+   */
+  private record Run(int[] zipCodes, long[] ids, byte[] colors, int size) {
+
+    private static final Run EMPTY = new Run(new int[0], new long[0], new byte[0], 0);
+
+    /**
+     * Returns the position of the first entry after the given zip code and ID.
+     */
+    private int firstAfter(int zipCode, long id) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (zipCodes[mid] < zipCode || (zipCodes[mid] == zipCode && ids[mid] <= id)) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    private int compare(int position, Run other, int otherPosition) {
+      int comparison = Integer.compare(zipCodes[position], other.zipCodes[otherPosition]);
+      return comparison != 0 ? comparison : Long.compare(ids[position], other.ids[otherPosition]);
+    }
+
+    private static Run merge(Run a, Run b) {
+      int size = a.size + b.size;
+      int[] zipCodes = new int[size];
+      long[] ids = new long[size];
+      byte[] colors = new byte[size];
+      int i = 0;
+      int j = 0;
+      for (int k = 0; k < size; k++) {
+        Run source;
+        int position;
+        if (j >= b.size || (i < a.size && a.compare(i, b, j) < 0)) {
+          source = a;
+          position = i++;
+        } else {
+          source = b;
+          position = j++;
+        }
+        zipCodes[k] = source.zipCodes[position];
+        ids[k] = source.ids[position];
+        colors[k] = source.colors[position];
+      }
+      return new Run(zipCodes, ids, colors, size);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package org.dci.assecorassessmentbackend.service;
+
+import java.util.Collections;
+import java.util.List;
+import org.dci.assecorassessmentbackend.model.Person;
+
+/**
+ * Published after persons were written, so that derived in-memory state can be brought up to
+ * date.
+ *
+ * @param addedPersons The inserted persons with their IDs. For a reset, all persisted persons if
+ *                     the change replaced all of them, otherwise empty.
+ * @param reset        Whether arbitrary persons may have been inserted, updated or deleted, so
+ *                     that all derived state has to be rebuilt.
+ */
+public record PersonsChangedEvent(List<Person> addedPersons, boolean reset) {
+
+  /**
+   * Creates an event for newly inserted persons.
+   *
+   * @param addedPersons The inserted persons with their IDs.
+   * @return The event.
+   */
+  public static PersonsChangedEvent added(List<Person> addedPersons) {
+    return new PersonsChangedEvent(List.copyOf(addedPersons), false);
+  }
+
+  /**
+   * Creates an event for a bulk change of the persisted persons.
+   *
+   * @return The event.
+   */
+  public static PersonsChangedEvent reloaded() {
+    return new PersonsChangedEvent(List.of(), true);
+  }
+
+  /**
+   * Creates an event for a load that replaced all persisted persons, so that derived state can be
+   * rebuilt without reading them again.
+   *
+   * @param persons All persisted persons with their IDs.
+   * @return The event.
+   */
+  public static PersonsChangedEvent replaced(List<Person> persons) {
+    return new PersonsChangedEvent(Collections.unmodifiableList(persons), true);
+  }
+}
@@ -0,0 +1,10 @@
+package org.dci.assecorassessmentbackend.service;
+
+/**
+ * Enum representing why a record of the data source was skipped.
+ */
+public enum RejectionReason {
+  COLUMN_COUNT,
+  ZIP_CODE,
+  COLOR
+}
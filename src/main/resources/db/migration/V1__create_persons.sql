@@ -0,0 +1,23 @@
+-- Persons and the fingerprint of the last loaded data source, with an index for every access
+-- path: color filters and keyset pages by color, zip code lookups and name lookups.
+
+CREATE SEQUENCE persons_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE persons (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    city       VARCHAR(255),
+    color      SMALLINT,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    zip_code   VARCHAR(255)
+);
+
+CREATE INDEX idx_persons_color_id ON persons (color, id);
+CREATE INDEX idx_persons_zip_code ON persons (zip_code);
+CREATE INDEX idx_persons_last_name_first_name ON persons (last_name, first_name);
+
+CREATE TABLE data_source_fingerprints (
+    name      VARCHAR(255)             NOT NULL PRIMARY KEY,
+    sha256    VARCHAR(64)              NOT NULL,
+    loaded_at TIMESTAMP(6) WITH TIME ZONE
+);
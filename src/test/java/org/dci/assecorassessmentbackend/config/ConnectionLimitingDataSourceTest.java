@@ -0,0 +1,62 @@
+package org.dci.assecorassessmentbackend.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ConnectionLimitingDataSourceTest {
+
+  @Mock
+  private DataSource targetDataSource;
+
+  private ConnectionLimitingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    MockitoAnnotations.openMocks(this);
+    when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    dataSource = new ConnectionLimitingDataSource(targetDataSource, 1, 10);
+  }
+
+  @Test
+  void getConnection_ShouldTimeOut_WhenAllPermitsAreHeld() throws SQLException {
+    dataSource.getConnection();
+
+    assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+  }
+
+  @Test
+  void getConnection_ShouldReturnPermitOnce_WhenConnectionIsClosedTwice() throws SQLException {
+    Connection first = dataSource.getConnection();
+    first.close();
+    first.close();
+
+    Connection second = dataSource.getConnection();
+
+    assertNotNull(second);
+    assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+  }
+
+  @Test
+  void getConnection_ShouldReturnPermit_WhenPoolFails() throws SQLException {
+    when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"))
+        .thenAnswer(invocation -> mock(Connection.class));
+
+    assertThrows(SQLException.class, dataSource::getConnection);
+
+    assertNotNull(dataSource.getConnection());
+    verify(targetDataSource, times(2)).getConnection();
+  }
+}
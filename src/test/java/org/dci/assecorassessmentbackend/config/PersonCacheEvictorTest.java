@@ -0,0 +1,48 @@
+package org.dci.assecorassessmentbackend.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.PersonsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class PersonCacheEvictorTest {
+
+  private CacheManager cacheManager;
+  private PersonCacheEvictor personCacheEvictor;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager = new ConcurrentMapCacheManager(CacheConfig.PERSON_BY_ID,
+        CacheConfig.PERSONS_BY_COLOR);
+    personCacheEvictor = new PersonCacheEvictor(cacheManager);
+    cacheManager.getCache(CacheConfig.PERSON_BY_ID).put(1L, "person");
+    cacheManager.getCache(CacheConfig.PERSONS_BY_COLOR).put(Color.BLAU, List.of());
+    cacheManager.getCache(CacheConfig.PERSONS_BY_COLOR).put(Color.ROT, List.of());
+  }
+
+  @Test
+  void onPersonsChanged_ShouldEvictOnlyAffectedColor_WhenPersonWasAdded() {
+    personCacheEvictor.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(2L, "Jane", "Doe", "54321", "Sample City", Color.ROT),
+        new Person(3L, "John", "Doe", "12345", "Sample City", null))));
+
+    assertNotNull(cacheManager.getCache(CacheConfig.PERSONS_BY_COLOR).get(Color.BLAU));
+    assertNull(cacheManager.getCache(CacheConfig.PERSONS_BY_COLOR).get(Color.ROT));
+    assertNotNull(cacheManager.getCache(CacheConfig.PERSON_BY_ID).get(1L));
+  }
+
+  @Test
+  void onPersonsChanged_ShouldClearAllCaches_WhenReset() {
+    personCacheEvictor.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    assertNull(cacheManager.getCache(CacheConfig.PERSONS_BY_COLOR).get(Color.BLAU));
+    assertNull(cacheManager.getCache(CacheConfig.PERSON_BY_ID).get(1L));
+  }
+}
@@ -0,0 +1,82 @@
+package org.dci.assecorassessmentbackend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.PersonDataVersion;
+import org.dci.assecorassessmentbackend.service.PersonResponseCache;
+import org.dci.assecorassessmentbackend.service.PersonsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class PersonConditionalGetFilterTest {
+
+  private PersonDataVersion personDataVersion;
+  private PersonConditionalGetFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    personDataVersion = new PersonDataVersion();
+    filter = new PersonConditionalGetFilter(personDataVersion,
+        new StaticListableBeanFactory().getBeanProvider(PersonResponseCache.class));
+  }
+
+  @Test
+  void doFilter_ShouldAnswerNotModified_WhenETagMatches() throws Exception {
+    String eTag = get("/persons/color/blau", null).getHeader(HttpHeaders.ETAG);
+
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request("/persons/color/blau", eTag), response, chain);
+
+    assertEquals(304, response.getStatus());
+    assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    assertNull(chain.getRequest());
+  }
+
+  @Test
+  void doFilter_ShouldChangeETagOnlyOfAffectedLists_WhenPersonsWereAdded() throws Exception {
+    String all = get("/persons", null).getHeader(HttpHeaders.ETAG);
+    String blau = get("/persons/color/blau", null).getHeader(HttpHeaders.ETAG);
+
+    personDataVersion.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(3L, "Jane", "Doe", "12345", "Lauterecken", Color.ROT))));
+
+    assertNotEquals(all, get("/persons", all).getHeader(HttpHeaders.ETAG));
+    assertEquals(304, get("/persons/color/blau", blau).getStatus());
+  }
+
+  @Test
+  void doFilter_ShouldPassOnWithoutETag_WhenColorIsUnknown() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request("/persons/color/lila", null), response, chain);
+
+    assertNotNull(chain.getRequest());
+    assertNull(response.getHeader(HttpHeaders.ETAG));
+  }
+
+  private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request(path, ifNoneMatch), response, new MockFilterChain());
+    return response;
+  }
+
+  private static MockHttpServletRequest request(String path, String ifNoneMatch) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    if (ifNoneMatch != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    return request;
+  }
+}
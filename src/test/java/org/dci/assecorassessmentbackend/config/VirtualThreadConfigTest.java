@@ -0,0 +1,35 @@
+package org.dci.assecorassessmentbackend.config;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs against the local PostgreSQL instance configured in application.properties.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadConfigTest {
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void dataSource_ShouldKeepPoolMetrics_WhenConnectionsAreLimited() throws SQLException {
+    assertInstanceOf(ConnectionLimitingDataSource.class, dataSource);
+    assertTrue(dataSource.isWrapperFor(HikariDataSource.class));
+    assertNotNull(dataSource.unwrap(HikariDataSource.class));
+    assertNotNull(meterRegistry.find("hikaricp.connections").gauge());
+    assertNotNull(meterRegistry.find("jdbc.connections.max").gauge());
+  }
+}
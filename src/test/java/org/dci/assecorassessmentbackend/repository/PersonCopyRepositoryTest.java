@@ -0,0 +1,73 @@
+package org.dci.assecorassessmentbackend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.dci.assecorassessmentbackend.config.DataLoadProgress;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs against the local PostgreSQL instance configured in application.properties.
+ */
+@SpringBootTest
+class PersonCopyRepositoryTest {
+
+  @Autowired
+  private PersonCopyRepository personCopyRepository;
+
+  @Autowired
+  private PersonRepository personRepository;
+
+  @Autowired
+  private DataLoadProgress dataLoadProgress;
+
+  /**
+   * The initial data load replaces all persons, so it must not overlap with the tests.
+   */
+  @BeforeEach
+  void awaitDataLoad() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while ((dataLoadProgress.getState() == DataLoadProgress.State.PENDING
+        || dataLoadProgress.getState() == DataLoadProgress.State.RUNNING)
+        && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+
+  @Test
+  void copyAll_ShouldInsertPersonsAndAssignIds() throws Exception {
+    List<Person> persons = List.of(
+        new Person(null, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU),
+        new Person(null, "Say \"hi\"", "Doe, Jr.", "12345", "", Color.WEISS));
+
+    personCopyRepository.copyAll(persons);
+
+    Person first = personRepository.findById(persons.get(0).getId()).orElseThrow();
+    Person second = personRepository.findById(persons.get(1).getId()).orElseThrow();
+    assertEquals(persons.get(0), first);
+    assertEquals(persons.get(1), second);
+  }
+
+  @Test
+  void copyAll_ShouldNotReuseIds_WhenPersonsAreSavedThroughJpaAfterwards() throws Exception {
+    List<Person> copied = List.of(new Person(null, "Jane", "Doe", "54321", "Sample City",
+        Color.ROT));
+    personCopyRepository.copyAll(copied);
+
+    Person saved = personRepository.save(
+        new Person(null, "John", "Doe", "12345", "Sample City", Color.GRUEN));
+
+    assertNotNull(saved.getId());
+    assertFalse(copied.stream().anyMatch(person -> person.getId().equals(saved.getId())));
+    assertEquals(Color.ROT, personRepository.findById(copied.getFirst().getId()).orElseThrow()
+        .getColor());
+  }
+}
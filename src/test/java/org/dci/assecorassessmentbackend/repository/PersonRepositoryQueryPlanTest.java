@@ -0,0 +1,218 @@
+package org.dci.assecorassessmentbackend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.dci.assecorassessmentbackend.config.DataLoadProgress;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Captures the SQL of every query of {@link PersonRepository} and asserts that PostgreSQL can
+ * answer it from an index. Sequential scans are disabled for the {@code EXPLAIN}, so the planner
+ * only falls back to one when no index fits the query; the plans therefore do not depend on the
+ * size of the table.
+ *
+ * <p>Runs against the local PostgreSQL instance configured in application.properties.
+ */
+@SpringBootTest
+class PersonRepositoryQueryPlanTest {
+
+  /**
+   * Query methods of PersonRepository that have no query plan.
+   */
+  private static final Set<String> WITHOUT_PLAN = Set.of("truncate");
+
+  private static final short ROT = (short) Color.ROT.getCode();
+
+  @Autowired
+  private PersonRepository personRepository;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private DataLoadProgress dataLoadProgress;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  /**
+   * Records the SQL Hibernate prepares on the current thread while capturing.
+   */
+  @TestConfiguration
+  static class StatementCaptureConfig {
+
+    static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Bean
+    HibernatePropertiesCustomizer statementCapture() {
+      StatementInspector inspector = sql -> {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+          captured.add(sql);
+        }
+        return sql;
+      };
+      return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+  }
+
+  /**
+   * The initial data load truncates the table, which would block the plans.
+   */
+  @BeforeEach
+  void awaitDataLoad() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while ((dataLoadProgress.getState() == DataLoadProgress.State.PENDING
+        || dataLoadProgress.getState() == DataLoadProgress.State.RUNNING)
+        && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+
+  @Test
+  void queries_ShouldUseIndexes_WhenPlannedByPostgres() throws Exception {
+    List<String> checked = new ArrayList<>();
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+    assertIndexScan("findById", capture(() -> personRepository.findById(1L)), 1L);
+    checked.add("findById");
+    assertIndexScan("findAllDtos", capture(() -> personRepository.findAllDtos()));
+    checked.add("findAllDtos");
+    assertIndexScan("findDtoById", capture(() -> personRepository.findDtoById(1L)), 1L);
+    checked.add("findDtoById");
+    assertIndexScan("findDtosByColor", capture(() -> personRepository.findDtosByColor(Color.ROT)),
+        ROT);
+    checked.add("findDtosByColor");
+    assertIndexScan("findDtosByIds", capture(() ->
+        personRepository.findDtosByIds(List.of(1L, 2L))), 1L, 2L);
+    checked.add("findDtosByIds");
+    assertIndexScan("findDtoPage", capture(() ->
+        personRepository.findDtoPage(0L, Limit.of(10))), 0L, 10);
+    checked.add("findDtoPage");
+    assertIndexScan("findDtoPageByColor", capture(() ->
+        personRepository.findDtoPageByColor(Color.ROT, 0L, Limit.of(10))), ROT, 0L, 10);
+    checked.add("findDtoPageByColor");
+    assertIndexScan("findZipCodeRangePage", capture(() ->
+        personRepository.findZipCodeRangePage("67700", 0L, "67799", Limit.of(10))),
+        "67700", "67799", "67700", 0L, 10);
+    checked.add("findZipCodeRangePage");
+    assertIndexScan("findZipCodeRangePageByColor", capture(() ->
+        personRepository.findZipCodeRangePageByColor(Color.ROT, "67700", 0L, "67799",
+            Limit.of(10))), ROT, "67700", "67799", "67700", 0L, 10);
+    checked.add("findZipCodeRangePageByColor");
+    assertIndexScan("streamAll", capture(() -> transaction.executeWithoutResult(status -> {
+      try (Stream<?> persons = personRepository.streamAll()) {
+        persons.findFirst();
+      }
+    })));
+    checked.add("streamAll");
+    assertIndexScan("streamAllDtos", capture(() -> transaction.executeWithoutResult(status -> {
+      try (Stream<?> persons = personRepository.streamAllDtos()) {
+        persons.findFirst();
+      }
+    })));
+    checked.add("streamAllDtos");
+    assertIndexScan("streamDtosByColor", capture(() -> transaction.executeWithoutResult(status -> {
+      try (Stream<?> persons = personRepository.streamDtosByColor(Color.ROT)) {
+        persons.findFirst();
+      }
+    })), ROT);
+    checked.add("streamDtosByColor");
+    assertIndexScan("updateColor", capture(() -> transaction.executeWithoutResult(status -> {
+      personRepository.updateColor(Color.ROT, List.of(1L, 2L));
+      status.setRollbackOnly();
+    })), ROT, 1L, 2L);
+    checked.add("updateColor");
+
+    Set<String> unchecked = new TreeSet<>();
+    for (Method method : PersonRepository.class.getDeclaredMethods()) {
+      if (!checked.contains(method.getName()) && !WITHOUT_PLAN.contains(method.getName())) {
+        unchecked.add(method.getName());
+      }
+    }
+    assertEquals(Set.of(), unchecked, "Queries without a plan check");
+  }
+
+  private static String capture(Runnable query) {
+    List<String> captured = new CopyOnWriteArrayList<>();
+    StatementCaptureConfig.CAPTURED.set(captured);
+    try {
+      query.run();
+    } finally {
+      StatementCaptureConfig.CAPTURED.remove();
+    }
+    assertEquals(1, captured.size(), "Statements: " + captured);
+    return captured.getFirst();
+  }
+
+  private void assertIndexScan(String query, String sql, Object... parameters) throws Exception {
+    assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(),
+        "Parameters of " + query + ": " + sql);
+
+    JsonNode plan;
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("SET LOCAL enable_seqscan = off");
+      }
+      try (PreparedStatement explain = connection.prepareStatement(
+          "EXPLAIN (FORMAT JSON) " + sql)) {
+        for (int i = 0; i < parameters.length; i++) {
+          explain.setObject(i + 1, parameters[i]);
+        }
+        try (ResultSet resultSet = explain.executeQuery()) {
+          resultSet.next();
+          plan = objectMapper.readTree(resultSet.getString(1));
+        }
+      } finally {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    }
+
+    List<String> nodes = new ArrayList<>();
+    collectNodes(plan.get(0).get("Plan"), nodes);
+    assertFalse(nodes.contains("Seq Scan"), query + " scans the table: " + nodes + "\n" + sql);
+    assertFalse(nodes.stream().noneMatch(node -> node.contains("Index")),
+        query + " uses no index: " + nodes + "\n" + sql);
+  }
+
+  private static void collectNodes(JsonNode node, List<String> nodes) {
+    nodes.add(node.get("Node Type").asText());
+    JsonNode children = node.get("Plans");
+    if (children != null) {
+      children.forEach(child -> collectNodes(child, nodes));
+    }
+  }
+}
@@ -6,14 +6,21 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Optional;
 import org.dci.assecorassessmentbackend.model.Color;
 import org.dci.assecorassessmentbackend.model.Person;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.core.io.ClassPathResource;
@@ -31,7 +38,7 @@ class CsvFileReaderTest {
 
   @BeforeEach
   void setUp() {
-    csvFileReader = new CsvFileReader();
+    csvFileReader = new CsvFileReader(new SimpleMeterRegistry());
   }
 
   @Test
@@ -46,6 +53,66 @@ class CsvFileReaderTest {
     assertFalse(persons.isEmpty());
   }
 
+  @Test
+  void readData_ShouldMergeMultiLineRecords_WhenReadingFromFilePath(@TempDir Path tempDir)
+      throws Exception {
+    Path csv = tempDir.resolve("persons.csv");
+    Files.writeString(csv, """
+        Müller, Hans, 67742 Lauterecken, 1\r
+        Bart, Bertram,\s
+        12313 Wasweißich, 1\s
+        Invalid, Line, Sample City, 2
+        Andersson, Anders, 32132 Schweden - ☀, 2""", StandardCharsets.UTF_8);
+
+    List<Person> persons = new CsvFileReader(csv.toString(), new SimpleMeterRegistry())
+        .readData();
+
+    assertEquals(List.of(
+        new Person(null, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU),
+        new Person(null, "Bertram", "Bart", "12313", "Wasweißich", Color.BLAU),
+        new Person(null, "Anders", "Andersson", "32132", "Schweden - ☀", Color.GRUEN)), persons);
+  }
+
+  @Test
+  void readData_ShouldThrow_WhenFileCannotBeRead(@TempDir Path tempDir) {
+    String missing = tempDir.resolve("missing.csv").toString();
+
+    assertThrows(UncheckedIOException.class,
+        () -> new CsvFileReader(missing, new SimpleMeterRegistry()).readData());
+    assertThrows(UncheckedIOException.class,
+        () -> new CsvFileReader(missing, true, 2, false, new SimpleMeterRegistry()).readData());
+  }
+
+  @Test
+  void readData_ShouldRecordMetrics_WhenReadingFromFilePath(@TempDir Path tempDir)
+      throws Exception {
+    Path csv = tempDir.resolve("persons.csv");
+    Files.writeString(csv, """
+        Müller, Hans, 67742 Lauterecken, 1
+        Bart, Bertram,\s
+        12313 Wasweißich, 1\s
+        Invalid, Line, Sample City, 2
+        Gerber, Gerda, 76535 Woanders, 9
+        Doe, John, Sample City""", StandardCharsets.UTF_8);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    new CsvFileReader(csv.toString(), false, 0, false, registry).readData();
+
+    assertEquals(6, registry.get("csv.lines.read").counter().count());
+    assertEquals(2, registry.get("csv.records.parsed").counter().count());
+    assertEquals(1, registry.get("csv.records.multiline").counter().count());
+    assertEquals(1, registry.get("csv.records.rejected").tag("reason", "zip_code").counter()
+        .count());
+    assertEquals(1, registry.get("csv.records.rejected").tag("reason", "color").counter()
+        .count());
+    assertEquals(1, registry.get("csv.read").tag("mode", "sequential").timer().count());
+  }
+
+  @Test
+  void mergeMultiLineData_ShouldReturnEmpty_WhenLineHasTooFewColumns() {
+    assertTrue(csvFileReader.mergeMultiLineData("Bart, Bertram, ", null).isEmpty());
+  }
+
   @Test
   void mergeMultiLineData_ShouldMergeLines_WhenMultiLineDataDetected() {
     Optional<String> mergedLine = csvFileReader.mergeMultiLineData(MULTILINE_DATA_PART2,
@@ -97,6 +164,13 @@ class CsvFileReaderTest {
     assertEquals("Sample City", city);
   }
 
+  @Test
+  void extractCity_ShouldStripTrailingMarker_WhenPresent() {
+    String city = csvFileReader.extractCity("12345 Sample City -*");
+
+    assertEquals("Sample City", city);
+  }
+
   @Test
   void extractCity_ShouldThrowException_WhenInvalidInput() {
     assertThrows(IllegalArgumentException.class,
@@ -113,4 +187,42 @@ class CsvFileReaderTest {
   void parseColor_ShouldThrowException_WhenInvalidCode() {
     assertThrows(IllegalArgumentException.class, () -> csvFileReader.parseColor("InvalidColor"));
   }
+
+  @Test
+  void readAppended_ShouldReturnOnlyAppendedRecords_WhenFileWasAppended(@TempDir Path tempDir)
+      throws Exception {
+    Path csv = tempDir.resolve("persons.csv");
+    Files.writeString(csv, "Müller, Hans, 67742 Lauterecken, 1\nBart, Bertram,\n",
+        StandardCharsets.UTF_8);
+    CsvFileReader reader = new CsvFileReader(csv.toString(), false, 0, true,
+        new SimpleMeterRegistry());
+    reader.readData();
+
+    Files.writeString(csv, "12313 Wasweißich, 2\nDoe, John, 12345 Sample City, 3\n",
+        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    Optional<List<Person>> appended = reader.readAppended(new DataSourceListener() {
+    });
+
+    assertTrue(appended.isPresent());
+    assertEquals(List.of(
+        new Person(null, "Bertram", "Bart", "12313", "Wasweißich", Color.GRUEN),
+        new Person(null, "John", "Doe", "12345", "Sample City", Color.VIOLETT)), appended.get());
+  }
+
+  @Test
+  void readAppended_ShouldReturnEmpty_WhenPreviouslyReadDataChanged(@TempDir Path tempDir)
+      throws Exception {
+    Path csv = tempDir.resolve("persons.csv");
+    Files.writeString(csv, "Müller, Hans, 67742 Lauterecken, 1\n", StandardCharsets.UTF_8);
+    CsvFileReader reader = new CsvFileReader(csv.toString(), false, 0, true,
+        new SimpleMeterRegistry());
+    reader.readData();
+
+    Files.writeString(csv,
+        "Müller, Hans, 67742 Lauterecken, 2\nDoe, John, 12345 Sample City, 3\n",
+        StandardCharsets.UTF_8);
+
+    assertFalse(reader.readAppended(new DataSourceListener() {
+    }).isPresent());
+  }
 }
@@ -0,0 +1,79 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelCsvReaderTest {
+
+  private static final String MULTILINE_CSV = """
+      Müller, Hans, 67742 Lauterecken, 1
+      Petersen, Peter, 18439 Stralsund, 2
+      Bart, Bertram,\s
+      12313 Wasweißich, 1\s
+      Gerber, Gerda, 76535 Woanders, 3\s
+      Doe, John
+      Invalid, Line, Sample City, 2
+      12345 Sample City, 4\r
+      Klaussen, Klaus, 43246 Hierach, 2\r
+      Andersson, Anders,\r\n32132 Schweden - ☀, 2\r\n""";
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void read_ShouldReturnSameRecordsAsSequentialParser_WhenChunksSplitMultiLineRecords()
+      throws Exception {
+    Path csv = tempDir.resolve("persons.csv");
+    Files.writeString(csv, MULTILINE_CSV, StandardCharsets.UTF_8);
+    List<Object> expected = new ArrayList<>();
+    CsvRecordParser sequential = new CsvRecordParser(expected::add, expected::add);
+    sequential.parse(new ByteArrayInputStream(MULTILINE_CSV.getBytes(StandardCharsets.UTF_8)));
+
+    for (long chunkSize = 1; chunkSize <= MULTILINE_CSV.length(); chunkSize++) {
+      List<Object> records = new ArrayList<>();
+      ParallelCsvReader.Result result =
+          new ParallelCsvReader(4, chunkSize).read(csv, records::add, records::add);
+
+      assertEquals(expected, records, "chunk size " + chunkSize);
+      assertEquals(sequential.lines(), result.lines(), "lines, chunk size " + chunkSize);
+      assertEquals(sequential.multiLineRecords(), result.multiLineRecords(),
+          "multi-line records, chunk size " + chunkSize);
+    }
+  }
+
+  @Test
+  void read_ShouldKeepFileOrder_WhenFileHasManyChunks() throws Exception {
+    StringBuilder csv = new StringBuilder();
+    for (int i = 0; i < 5_000; i++) {
+      csv.append("Last").append(i).append(", First").append(i).append(", ");
+      if (i % 97 == 0) {
+        csv.append('\n');
+      }
+      csv.append(10000 + i).append(" City").append(i % 13).append(", ").append(i % 7 + 1)
+          .append('\n');
+    }
+    Path file = tempDir.resolve("large.csv");
+    Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+    List<Object> records = new ArrayList<>();
+    new ParallelCsvReader(3, 4096).read(file, records::add, records::add);
+
+    assertEquals(5_000, records.size());
+    assertEquals(parseSequentially(csv.toString()), records);
+  }
+
+  private static List<Object> parseSequentially(String csv) throws Exception {
+    List<Object> records = new ArrayList<>();
+    new CsvRecordParser(records::add, records::add)
+        .parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    return records;
+  }
+}
@@ -0,0 +1,156 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.coyote.BadRequestException;
+import org.dci.assecorassessmentbackend.dto.PersonBatchItemDto;
+import org.dci.assecorassessmentbackend.dto.PersonBatchResultDto;
+import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
+import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.exception.ServiceUnavailableException;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonBatchServiceTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonBatchService personBatchService;
+
+  private final AtomicLong nextId = new AtomicLong(1);
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personBatchService = new PersonBatchService(personRepository, new PersonMapper(),
+        eventPublisher, transactionManager, 2, 10);
+    doAnswer(invocation -> {
+      ((Iterable<Person>) invocation.getArgument(0))
+          .forEach(person -> person.setId(nextId.getAndIncrement()));
+      return null;
+    }).when(personRepository).saveInBatches(any());
+  }
+
+  @Test
+  void createPersons_ShouldCreateValidPersonsInChunks_WhenSomePersonsAreInvalid()
+      throws BadRequestException {
+    PersonBatchResultDto result = personBatchService.createPersons(Arrays.asList(
+        person("blau"), person("lila"), null, person("rot"), person("grün")));
+
+    assertEquals(3, result.getCreated());
+    assertEquals(2, result.getFailed());
+    assertEquals(List.of(
+        new PersonBatchItemDto(0, 1L, null),
+        new PersonBatchItemDto(1, null, "Invalid color: lila"),
+        new PersonBatchItemDto(2, null, "Missing or malformed person"),
+        new PersonBatchItemDto(3, 2L, null),
+        new PersonBatchItemDto(4, 3L, null)), result.getItems());
+    verify(personRepository, times(2)).saveInBatches(any());
+    verify(eventPublisher, times(2)).publishEvent(any(PersonsChangedEvent.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void createPersons_ShouldReportOnlyFailedPerson_WhenSavingChunkFails()
+      throws BadRequestException {
+    doAnswer(invocation -> {
+      Iterable<Person> chunk = invocation.getArgument(0);
+      for (Person person : chunk) {
+        person.setId(nextId.getAndIncrement());
+        if (person.getFirstName().equals("Bad")) {
+          throw new DataIntegrityViolationException("value too long");
+        }
+      }
+      return null;
+    }).when(personRepository).saveInBatches(any());
+    PersonCreateDto bad = person("rot");
+    bad.setFirstName("Bad");
+
+    PersonBatchResultDto result = personBatchService.createPersons(List.of(
+        person("blau"), bad, person("grün")));
+
+    assertEquals(2, result.getCreated());
+    assertEquals(1, result.getFailed());
+    assertEquals(new PersonBatchItemDto(1, null, "Not saved: value too long"),
+        result.getItems().get(1));
+    assertNotNull(result.getItems().get(0).getId());
+    assertNotNull(result.getItems().get(2).getId());
+    verify(eventPublisher, times(2)).publishEvent(any(PersonsChangedEvent.class));
+  }
+
+  @Test
+  void createPersons_ShouldFailOnce_WhenDatabaseIsUnreachable() {
+    doThrow(new CannotGetJdbcConnectionException("connection refused"))
+        .when(personRepository).saveInBatches(any());
+    List<PersonCreateDto> persons = List.of(person("blau"), person("grün"), person("rot"));
+
+    assertThrows(ServiceUnavailableException.class,
+        () -> personBatchService.createPersons(persons));
+    verify(personRepository, times(1)).saveInBatches(any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void createPersons_ShouldFailRemainingPersons_WhenDatabaseFailsAfterFirstChunk()
+      throws BadRequestException {
+    doAnswer(invocation -> {
+      ((Iterable<Person>) invocation.getArgument(0))
+          .forEach(person -> person.setId(nextId.getAndIncrement()));
+      return null;
+    }).doThrow(new CannotGetJdbcConnectionException("connection refused"))
+        .when(personRepository).saveInBatches(any());
+
+    PersonBatchResultDto result = personBatchService.createPersons(List.of(
+        person("blau"), person("grün"), person("rot"), person("gelb"), person("weiß")));
+
+    assertEquals(2, result.getCreated());
+    assertEquals(3, result.getFailed());
+    assertEquals(new PersonBatchItemDto(2, null, "Not saved: connection refused"),
+        result.getItems().get(2));
+    assertEquals(new PersonBatchItemDto(4, null, "Not saved: connection refused"),
+        result.getItems().get(4));
+    verify(personRepository, times(2)).saveInBatches(any());
+  }
+
+  @Test
+  void createPersons_ShouldRejectBatch_WhenItIsTooLarge() {
+    List<PersonCreateDto> persons = Collections.nCopies(11, person("blau"));
+
+    assertThrows(BadRequestException.class,
+        () -> personBatchService.createPersons(persons));
+    verify(personRepository, never()).saveInBatches(any());
+  }
+
+  private static PersonCreateDto person(String color) {
+    return new PersonCreateDto("John", "Doe", "12345", "Sample City", color);
+  }
+}
@@ -0,0 +1,91 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonColorIndexTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonColorIndex personColorIndex;
+
+  private PersonIndexes personIndexes;
+
+  private final Person hans = new Person(1L, "Hans", "Müller", "67742", "Lauterecken",
+      Color.BLAU);
+  private final Person peter = new Person(2L, "Peter", "Petersen", "18439", "Stralsund",
+      Color.GRUEN);
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personColorIndex = new PersonColorIndex(new PersonMapper(), true);
+    personIndexes = new PersonIndexes(List.of(personColorIndex), personRepository, entityManager,
+        transactionManager);
+  }
+
+  @Test
+  void findByColor_ShouldBeEmpty_WhenIndexWasNotBuilt() {
+    assertTrue(personColorIndex.findByColor(Color.BLAU).isEmpty());
+  }
+
+  @Test
+  void findByColor_ShouldReturnPersonsOfColor_WhenIndexWasRebuilt() {
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans, peter));
+
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    assertEquals(List.of(1L), ids(Color.BLAU));
+    assertEquals(List.of(2L), ids(Color.GRUEN));
+    assertEquals(List.of(), ids(Color.ROT));
+  }
+
+  @Test
+  void findByColor_ShouldKeepEarlierSnapshotsUnchanged_WhenPersonsAreAdded() {
+    PersonsChangedEvent late = PersonsChangedEvent.added(List.of(hans));
+    personIndexes.onPersonsCommitting(late);
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans, peter));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+    List<PersonDto> before = personColorIndex.findByColor(Color.BLAU).orElseThrow();
+
+    for (long id = 3; id < 40; id++) {
+      personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+          new Person(id, "Jane", "Doe", "54321", "Sample City", Color.BLAU))));
+    }
+    personIndexes.onPersonsChanged(late);
+    personIndexes.onPersonsCompleted(late);
+
+    assertEquals(1, before.size());
+    assertEquals(38, ids(Color.BLAU).size());
+    assertEquals(1L, ids(Color.BLAU).getFirst());
+    assertEquals(39L, ids(Color.BLAU).getLast());
+  }
+
+  private List<Long> ids(Color color) {
+    return personColorIndex.findByColor(color).orElseThrow().stream()
+        .map(PersonDto::getId)
+        .toList();
+  }
+}
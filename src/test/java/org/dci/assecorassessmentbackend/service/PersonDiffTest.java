@@ -0,0 +1,63 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.junit.jupiter.api.Test;
+
+class PersonDiffTest {
+
+  @Test
+  void compute_ShouldBeEmpty_WhenRecordsAreUnchanged() {
+    List<Person> existing = List.of(
+        new Person(1L, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU),
+        new Person(2L, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN));
+    List<Person> incoming = List.of(
+        new Person(null, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN),
+        new Person(null, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU));
+
+    assertTrue(PersonDiff.compute(existing, incoming).isEmpty());
+  }
+
+  @Test
+  void compute_ShouldReturnInsertsUpdatesAndDeletes_WhenRecordsChanged() {
+    Person added = new Person(null, "Gerda", "Gerber", "76535", "Woanders", Color.VIOLETT);
+    List<Person> existing = List.of(
+        new Person(1L, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU),
+        new Person(2L, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN),
+        new Person(3L, "Klaus", "Klaussen", "43246", "Hierach", Color.GRUEN));
+    List<Person> incoming = List.of(
+        new Person(null, "Hans", "Müller", "67742", "Lauterecken", Color.ROT),
+        new Person(null, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN),
+        added);
+
+    PersonDiff diff = PersonDiff.compute(existing, incoming);
+
+    assertEquals(List.of(added), diff.getInserts());
+    assertEquals(Map.of(Color.ROT, List.of(1L)), diff.getColorUpdates());
+    assertEquals(List.of(3L), diff.getDeletes());
+  }
+
+  @Test
+  void compute_ShouldMatchDuplicateKeysAsMultiset_WhenOnlyOneDuplicateChanged() {
+    List<Person> existing = List.of(
+        new Person(1L, "John", "Doe", "12345", "Sample City", Color.BLAU),
+        new Person(2L, "John", "Doe", "12345", "Sample City", Color.GRUEN),
+        new Person(3L, "John", "Doe", "12345", "Sample City", Color.GRUEN));
+    List<Person> incoming = List.of(
+        new Person(null, "John", "Doe", "12345", "Sample City", Color.GRUEN),
+        new Person(null, "John", "Doe", "12345", "Sample City", Color.GELB),
+        new Person(null, "John", "Doe", "12345", "Sample City", Color.BLAU));
+
+    PersonDiff diff = PersonDiff.compute(existing, incoming);
+
+    assertEquals(1, diff.getUpdateCount());
+    assertEquals(1, diff.getColorUpdates().get(Color.GELB).size());
+    assertTrue(diff.getInserts().isEmpty());
+    assertTrue(diff.getDeletes().isEmpty());
+  }
+}
@@ -0,0 +1,105 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonIndexesTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonColorIndex personColorIndex;
+  private PersonIndexes personIndexes;
+
+  private final Person hans = new Person(1L, "Hans", "Müller", "67742", "Lauterecken",
+      Color.BLAU);
+  private final Person peter = new Person(2L, "Peter", "Petersen", "18439", "Stralsund",
+      Color.BLAU);
+  private final Person anna = new Person(3L, "Anna", "Schmidt", "67655", "Lauterecken",
+      Color.GRUEN);
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personColorIndex = new PersonColorIndex(new PersonMapper(), true);
+    personIndexes = new PersonIndexes(List.of(personColorIndex), personRepository, entityManager,
+        transactionManager);
+  }
+
+  @Test
+  void onPersonsChanged_ShouldRebuildFromLoadedPersons_WhenDatabaseHasNoOthers() {
+    when(personRepository.count()).thenReturn(2L);
+
+    personIndexes.onPersonsChanged(PersonsChangedEvent.replaced(List.of(peter, hans)));
+
+    assertEquals(List.of(1L, 2L), ids(Color.BLAU));
+    verify(personRepository, never()).streamAll();
+  }
+
+  @Test
+  void onPersonsChanged_ShouldReadDatabase_WhenPersonsWereWrittenWhileLoading() {
+    when(personRepository.count()).thenReturn(3L);
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans, peter, anna));
+
+    personIndexes.onPersonsChanged(PersonsChangedEvent.replaced(List.of(hans, peter)));
+
+    assertEquals(List.of(1L, 2L), ids(Color.BLAU));
+    assertEquals(List.of(3L), ids(Color.GRUEN));
+  }
+
+  @Test
+  void onPersonsChanged_ShouldSkipAddedPersons_WhenRebuildReadThemBeforeTheyWereReported() {
+    PersonsChangedEvent insert = PersonsChangedEvent.added(List.of(peter));
+    personIndexes.onPersonsCommitting(insert);
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans, peter));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    personIndexes.onPersonsChanged(insert);
+    personIndexes.onPersonsCompleted(insert);
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(anna)));
+
+    assertEquals(List.of(1L, 2L), ids(Color.BLAU));
+    assertEquals(List.of(3L), ids(Color.GRUEN));
+  }
+
+  @Test
+  void onPersonsChanged_ShouldAddPersons_WhenRebuildDidNotReadThem() {
+    PersonsChangedEvent insert = PersonsChangedEvent.added(List.of(peter));
+    personIndexes.onPersonsCommitting(insert);
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    personIndexes.onPersonsChanged(insert);
+    personIndexes.onPersonsCompleted(insert);
+
+    assertEquals(List.of(1L, 2L), ids(Color.BLAU));
+  }
+
+  private List<Long> ids(Color color) {
+    return personColorIndex.findByColor(color).orElseThrow().stream()
+        .map(PersonDto::getId)
+        .toList();
+  }
+}
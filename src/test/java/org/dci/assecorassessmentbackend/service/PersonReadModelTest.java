@@ -0,0 +1,109 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonReadModelTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonReadModel personReadModel;
+
+  private PersonIndexes personIndexes;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personReadModel = new PersonReadModel(true);
+    personIndexes = new PersonIndexes(List.of(personReadModel), personRepository, entityManager,
+        transactionManager);
+    when(personRepository.streamAll()).thenReturn(Stream.of(
+        new Person(1L, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU),
+        new Person(5L, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN)));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+  }
+
+  @Test
+  void snapshot_ShouldServeLookups_WhenReadModelWasRebuilt() {
+    PersonColumns columns = personReadModel.snapshot().orElseThrow();
+
+    assertEquals(new PersonDto(5L, "Peter", "Petersen", "18439", "Stralsund", "grün"),
+        columns.findById(5L).orElseThrow());
+    assertTrue(columns.findById(2L).isEmpty());
+    assertEquals(List.of(1L), ids(columns.findByColor(Color.BLAU)));
+  }
+
+  @Test
+  void onPersonsChanged_ShouldKeepIdOrderAndOldSnapshots_WhenPersonsAreAdded() {
+    PersonColumns before = personReadModel.snapshot().orElseThrow();
+
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(7L, "Jane", "Doe", "12345", "Lauterecken", Color.BLAU),
+        new Person(3L, "John", "Doe", null, null, Color.BLAU),
+        new Person(5L, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN))));
+    PersonColumns after = personReadModel.snapshot().orElseThrow();
+
+    assertEquals(List.of(1L, 5L), ids(before.findAll()));
+    assertEquals(List.of(1L, 3L, 5L, 7L), ids(after.findAll()));
+    assertEquals(List.of(3L, 7L), ids(after.findPage(Color.BLAU, 1L, 10)));
+    assertEquals("Lauterecken", after.findById(7L).orElseThrow().getCity());
+    assertNull(after.findById(3L).orElseThrow().getZipCode());
+  }
+
+  @Test
+  void onPersonsChanged_ShouldKeepPersons_WhenTheyHaveNoColor() {
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(3L, "John", "Doe", "12345", "Lauterecken", null))));
+    PersonColumns columns = personReadModel.snapshot().orElseThrow();
+
+    assertNull(columns.findById(3L).orElseThrow().getColor());
+    assertEquals(List.of(1L, 3L, 5L), ids(columns.findAll()));
+    assertEquals(List.of(1L), ids(columns.findByColor(Color.BLAU)));
+  }
+
+  @Test
+  void onPersonsChanged_ShouldMergeDelta_WhenManyPersonsAreAddedOutOfOrder() {
+    List<Person> added = new ArrayList<>();
+    for (long id = 10_000; id > 5; id--) {
+      added.add(new Person(id, "Jane", "Doe", "12345", "Lauterecken", Color.ROT));
+    }
+
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(added));
+    PersonColumns columns = personReadModel.snapshot().orElseThrow();
+
+    List<Long> expected = new ArrayList<>(List.of(1L));
+    LongStream.rangeClosed(5, 10_000).forEach(expected::add);
+    assertEquals(expected, ids(columns.findAll()));
+    assertEquals(List.of(4_000L, 4_001L), ids(columns.findPage(Color.ROT, 3_999L, 2)));
+  }
+
+  private static List<Long> ids(List<PersonDto> persons) {
+    return persons.stream()
+        .map(PersonDto::getId)
+        .toList();
+  }
+}
@@ -0,0 +1,110 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.service.PersonResponseCache.CachedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.util.unit.DataSize;
+
+class PersonResponseCacheTest {
+
+  @Mock
+  private PersonService personService;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private PersonDataVersion personDataVersion;
+  private PersonResponseCache personResponseCache;
+
+  private final PersonDto hans = new PersonDto(1L, "Hans", "Müller", "67742", "Lauterecken",
+      "blau");
+  private final PersonDto peter = new PersonDto(2L, "Peter", "Petersen", "18439", "Stralsund",
+      "grün");
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personDataVersion = new PersonDataVersion();
+    personResponseCache = new PersonResponseCache(personService, personDataVersion, objectMapper,
+        true, DataSize.ofKilobytes(1));
+    doAnswer(invocation -> {
+      Consumer<PersonDto> consumer = invocation.getArgument(0);
+      consumer.accept(hans);
+      consumer.accept(peter);
+      return null;
+    }).when(personService).streamAllPersons(any(Consumer.class));
+    doAnswer(invocation -> {
+      Consumer<PersonDto> consumer = invocation.getArgument(1);
+      consumer.accept(hans);
+      return null;
+    }).when(personService).streamPersonsByColor(eq(Color.BLAU), any(Consumer.class));
+  }
+
+  @Test
+  void getAllPersons_ShouldSerializeListOnce_WhenDataDidNotChange() throws IOException {
+    CachedResponse first = personResponseCache.getAllPersons();
+    CachedResponse second = personResponseCache.getAllPersons();
+
+    assertSame(first, second);
+    assertEquals(objectMapper.writeValueAsString(List.of(hans, peter)),
+        new String(first.json(), StandardCharsets.UTF_8));
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+      assertArrayEquals(first.json(), in.readAllBytes());
+    }
+    verify(personService, times(1)).streamAllPersons(any());
+  }
+
+  @Test
+  void getPersonsByColor_ShouldOnlyRebuildOutdatedLists_WhenPersonsWereAdded() {
+    CachedResponse all = personResponseCache.getAllPersons();
+    CachedResponse blau = personResponseCache.getPersonsByColor(Color.BLAU);
+
+    personDataVersion.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(3L, "Jane", "Doe", "12345", "Lauterecken", Color.ROT))));
+
+    assertSame(blau, personResponseCache.getPersonsByColor(Color.BLAU));
+    assertEquals(all.generation() + 1, personResponseCache.getAllPersons().generation());
+    verify(personService, times(2)).streamAllPersons(any());
+    verify(personService, times(1)).streamPersonsByColor(eq(Color.BLAU), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getAllPersons_ShouldNotKeepBody_WhenListExceedsMaxBodySize() {
+    doAnswer(invocation -> {
+      Consumer<PersonDto> consumer = invocation.getArgument(0);
+      for (long id = 1; id <= 100; id++) {
+        consumer.accept(new PersonDto(id, "Hans", "Müller", "67742", "Lauterecken", "blau"));
+      }
+      return null;
+    }).when(personService).streamAllPersons(any(Consumer.class));
+
+    CachedResponse response = personResponseCache.getAllPersons();
+
+    assertTrue(response.tooLarge());
+    assertSame(response, personResponseCache.getAllPersons());
+    verify(personService, times(1)).streamAllPersons(any());
+  }
+}
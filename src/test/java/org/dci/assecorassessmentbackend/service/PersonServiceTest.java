@@ -2,15 +2,21 @@ package org.dci.assecorassessmentbackend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.coyote.BadRequestException;
 import org.dci.assecorassessmentbackend.dto.PersonCreateDto;
 import org.dci.assecorassessmentbackend.dto.PersonDto;
 import org.dci.assecorassessmentbackend.dto.PersonMapper;
+import org.dci.assecorassessmentbackend.dto.PersonPageDto;
 import org.dci.assecorassessmentbackend.exception.ResourceNotFoundException;
 import org.dci.assecorassessmentbackend.model.Color;
 import org.dci.assecorassessmentbackend.model.Person;
@@ -20,6 +26,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 class PersonServiceTest {
 
@@ -29,6 +37,18 @@ class PersonServiceTest {
   @Mock
   private PersonMapper personMapper;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private PersonColorIndex personColorIndex;
+
+  @Mock
+  private PersonReadModel personReadModel;
+
+  @Mock
+  private PersonStatistics personStatistics;
+
   @InjectMocks
   private PersonService personService;
 
@@ -39,10 +59,8 @@ class PersonServiceTest {
 
   @Test
   void getAllPersons_ShouldReturnListOfPersonDtos() {
-    Person person = new Person(1L, "John", "Doe", "12345", "Sample City", Color.BLAU);
-    PersonDto personDto = new PersonDto(1L, "John", "Doe", "12345", "Sample City", "blau");
-    when(personRepository.findAll()).thenReturn(List.of(person));
-    when(personMapper.toPersonDto(person)).thenReturn(personDto);
+    PersonDto personDto = new PersonDto(1L, Color.BLAU, "John", "Doe", "12345", "Sample City");
+    when(personRepository.findAllDtos()).thenReturn(List.of(personDto));
 
     List<PersonDto> result = personService.getAllPersons();
 
@@ -51,11 +69,44 @@ class PersonServiceTest {
   }
 
   @Test
-  void getPersonById_ShouldReturnPersonDto_WhenPersonExists() {
-    Person person = new Person(1L, "John", "Doe", "12345", "Sample City", Color.BLAU);
+  void streamAllPersons_ShouldPassProjectedPersonsToConsumer() {
     PersonDto personDto = new PersonDto(1L, "John", "Doe", "12345", "Sample City", "blau");
-    when(personRepository.findById(1L)).thenReturn(Optional.of(person));
-    when(personMapper.toPersonDto(person)).thenReturn(personDto);
+    when(personRepository.streamAllDtos()).thenReturn(Stream.of(personDto));
+    List<PersonDto> result = new ArrayList<>();
+
+    personService.streamAllPersons(result::add);
+
+    assertEquals(List.of(personDto), result);
+  }
+
+  @Test
+  void getPersonsPage_ShouldReturnNextToken_WhenMorePersonsFollow() throws BadRequestException {
+    PersonDto firstDto = new PersonDto(1L, "John", "Doe", "12345", "Sample City", "blau");
+    PersonDto secondDto = new PersonDto(2L, "Jane", "Doe", "54321", "Sample City", "rot");
+    when(personRepository.findDtoPage(0L, Limit.of(2))).thenReturn(List.of(firstDto, secondDto));
+
+    PersonPageDto page = personService.getPersonsPage(1, null);
+
+    assertEquals(List.of(firstDto), page.getItems());
+    assertNotNull(page.getNext());
+
+    when(personRepository.findDtoPage(1L, Limit.of(2))).thenReturn(List.of(secondDto));
+
+    PersonPageDto nextPage = personService.getPersonsPage(1, page.getNext());
+
+    assertEquals(List.of(secondDto), nextPage.getItems());
+    assertNull(nextPage.getNext());
+  }
+
+  @Test
+  void getPersonsPage_ShouldThrowBadRequestException_WhenTokenIsInvalid() {
+    assertThrows(BadRequestException.class, () -> personService.getPersonsPage(10, "not-a-token"));
+  }
+
+  @Test
+  void getPersonById_ShouldReturnPersonDto_WhenPersonExists() {
+    PersonDto personDto = new PersonDto(1L, Color.BLAU, "John", "Doe", "12345", "Sample City");
+    when(personRepository.findDtoById(1L)).thenReturn(Optional.of(personDto));
 
     PersonDto result = personService.getPersonById("1");
 
@@ -65,17 +116,16 @@ class PersonServiceTest {
 
   @Test
   void getPersonById_ShouldThrowResourceNotFoundException_WhenPersonDoesNotExist() {
-    when(personRepository.findById(1L)).thenReturn(Optional.empty());
+    when(personRepository.findDtoById(1L)).thenReturn(Optional.empty());
 
     assertThrows(ResourceNotFoundException.class, () -> personService.getPersonById("1"));
   }
 
   @Test
   void getAllPersonsByColor_ShouldReturnFilteredPersonDtos_WhenColorIsValid() {
-    Person person = new Person(1L, "Jane", "Doe", "54321", "Sample City", Color.ROT);
-    PersonDto personDto = new PersonDto(1L, "Jane", "Doe", "54321", "Sample City", "rot");
-    when(personRepository.findByColor(Color.ROT)).thenReturn(List.of(person));
-    when(personMapper.toPersonDto(person)).thenReturn(personDto);
+    PersonDto personDto = new PersonDto(1L, Color.ROT, "Jane", "Doe", "54321", "Sample City");
+    when(personColorIndex.findByColor(Color.ROT)).thenReturn(Optional.empty());
+    when(personRepository.findDtosByColor(Color.ROT)).thenReturn(List.of(personDto));
 
     List<PersonDto> result = personService.getAllPersonsByColor("rot");
 
@@ -83,6 +133,17 @@ class PersonServiceTest {
     assertEquals("rot", result.getFirst().getColor());
   }
 
+  @Test
+  void getAllPersonsByColor_ShouldUseColorIndex_WhenIndexIsAvailable() {
+    PersonDto personDto = new PersonDto(1L, "Jane", "Doe", "54321", "Sample City", "rot");
+    when(personColorIndex.findByColor(Color.ROT)).thenReturn(Optional.of(List.of(personDto)));
+
+    List<PersonDto> result = personService.getAllPersonsByColor("rot");
+
+    assertEquals(List.of(personDto), result);
+    verifyNoInteractions(personRepository);
+  }
+
   @Test
   void getAllPersonsByColor_ShouldThrowResourceNotFoundException_WhenColorIsInvalid() {
     assertThrows(ResourceNotFoundException.class,
@@ -106,6 +167,7 @@ class PersonServiceTest {
     assertNotNull(result);
     assertEquals("Jane", result.getFirstName());
     assertEquals("blau", result.getColor());
+    verify(eventPublisher).publishEvent(PersonsChangedEvent.added(List.of(savedPerson)));
   }
 
   @Test
@@ -0,0 +1,90 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.dto.PersonStatsDto;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonStatisticsTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonStatistics personStatistics;
+
+  private PersonIndexes personIndexes;
+
+  private final Person hans = new Person(1L, "Hans", "Müller", "67742", "Lauterecken",
+      Color.BLAU);
+  private final Person peter = new Person(2L, "Peter", "Petersen", "18439", "Stralsund",
+      Color.GRUEN);
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personStatistics = new PersonStatistics();
+    personIndexes = new PersonIndexes(List.of(personStatistics), personRepository, entityManager,
+        transactionManager);
+  }
+
+  @Test
+  void snapshot_ShouldBeEmpty_WhenPersonsWereNotCounted() {
+    assertTrue(personStatistics.snapshot().isEmpty());
+  }
+
+  @Test
+  void snapshot_ShouldCountAddedPersons_WhenPersonsAreAddedAfterRebuild() {
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans, peter));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(3L, "Anna", "Schmidt", "67655", "Lauterecken", Color.BLAU))));
+
+    PersonStatsDto stats = personStatistics.snapshot().orElseThrow();
+
+    assertEquals(3, stats.getTotal());
+    assertEquals(2L, stats.getByColor().get("blau"));
+    assertEquals(1L, stats.getByColor().get("grün"));
+    assertEquals(0L, stats.getByColor().get("weiß"));
+    assertEquals(Map.of("Lauterecken", 2L, "Stralsund", 1L), stats.getByCity());
+    assertEquals(Map.of("67", 2L, "18", 1L), stats.getByZipRegion());
+  }
+
+  @Test
+  void snapshot_ShouldReuseCounts_UntilPersonsAreAdded() {
+    when(personRepository.streamAll()).thenReturn(Stream.of(hans, peter));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    PersonStatsDto first = personStatistics.snapshot().orElseThrow();
+    PersonStatsDto second = personStatistics.snapshot().orElseThrow();
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(3L, "Anna", "Schmidt", "67655", "Lauterecken", Color.BLAU))));
+    PersonStatsDto third = personStatistics.snapshot().orElseThrow();
+
+    assertSame(first, second);
+    assertThrows(UnsupportedOperationException.class,
+        () -> first.getByCity().put("Berlin", 1L));
+    assertEquals(2, second.getTotal());
+    assertEquals(3, third.getTotal());
+  }
+}
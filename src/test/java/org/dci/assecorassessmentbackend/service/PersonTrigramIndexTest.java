@@ -0,0 +1,79 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonTrigramIndexTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonTrigramIndex personTrigramIndex;
+
+  private PersonIndexes personIndexes;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personTrigramIndex = new PersonTrigramIndex(true);
+    personIndexes = new PersonIndexes(List.of(personTrigramIndex), personRepository, entityManager,
+        transactionManager);
+  }
+
+  @Test
+  void normalize_ShouldFoldCaseAndTransliterateUmlauts_WhenTextHasUmlauts() {
+    assertEquals("mueller", PersonTrigramIndex.normalize("MÜLLER"));
+    assertEquals("mueller", PersonTrigramIndex.normalize("Mu\u0308ller"));
+    assertEquals("wasweissich", PersonTrigramIndex.normalize("Wasweißich"));
+    assertEquals("frankfurt am main", PersonTrigramIndex.normalize("Frankfurt-am-Main"));
+    assertEquals("andre", PersonTrigramIndex.normalize("André"));
+  }
+
+  @Test
+  void find_ShouldBeEmpty_WhenIndexWasNotBuilt() {
+    assertTrue(personTrigramIndex.find("mül", 10).isEmpty());
+  }
+
+  @Test
+  void find_ShouldRankBestMatchesFirst_WhenQueryHasUmlautsOrTypos() {
+    when(personRepository.streamAll()).thenReturn(Stream.of(
+        new Person(1L, "Hans", "Müller", "67742", "Lauterecken", Color.BLAU),
+        new Person(2L, "Peter", "Petersen", "18439", "Stralsund", Color.GRUEN),
+        new Person(5L, "Klaus", "Klaussen", "43246", "Wasweißich", Color.ROT)));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        new Person(4L, "Anna", "Mueller", "10115", "Berlin", Color.BLAU),
+        new Person(3L, "Max", "Mülheim", "45470", "Mülheim", Color.ROT))));
+
+    assertArrayEquals(new long[] {1L, 3L, 4L}, find("mül"));
+    assertArrayEquals(new long[] {1L, 4L, 3L}, find("Mueller"));
+    assertArrayEquals(new long[] {1L, 4L}, find("Muller"));
+    assertArrayEquals(new long[] {1L, 4L, 3L}, find("Mu\u0308ller"));
+    assertArrayEquals(new long[] {5L}, find("wasweiss"));
+    assertArrayEquals(new long[] {1L}, personTrigramIndex.find("mül", 1).orElseThrow());
+  }
+
+  private long[] find(String query) {
+    return personTrigramIndex.find(query, 10).orElseThrow();
+  }
+}
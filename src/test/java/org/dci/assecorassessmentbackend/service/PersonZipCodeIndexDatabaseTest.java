@@ -0,0 +1,67 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.dci.assecorassessmentbackend.config.DataLoadProgress;
+import org.dci.assecorassessmentbackend.dto.PersonDto;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Runs against the local PostgreSQL instance configured in application.properties.
+ */
+@SpringBootTest
+class PersonZipCodeIndexDatabaseTest {
+
+  @Autowired
+  private PersonZipCodeIndex personZipCodeIndex;
+
+  @Autowired
+  private PersonRepository personRepository;
+
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  @Autowired
+  private DataLoadProgress dataLoadProgress;
+
+  /**
+   * The initial data load replaces all persons, so it must not overlap with the tests.
+   */
+  @BeforeEach
+  void awaitDataLoad() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while ((dataLoadProgress.getState() == DataLoadProgress.State.PENDING
+        || dataLoadProgress.getState() == DataLoadProgress.State.RUNNING)
+        && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+  }
+
+  @Test
+  void find_ShouldMatchDatabase_WhenPersonHasNoColor() {
+    personRepository.save(new Person(null, "Jane", "Doe", "98765", "Nowhere", null));
+    eventPublisher.publishEvent(PersonsChangedEvent.reloaded());
+    Person added = personRepository.save(
+        new Person(null, "John", "Doe", "98765", "Nowhere", null));
+    eventPublisher.publishEvent(PersonsChangedEvent.added(List.of(added)));
+
+    long[] fromDatabase = personRepository.findZipCodeRangePage("98765", 0L, "98765",
+            Limit.of(1000)).stream()
+        .mapToLong(PersonDto::getId)
+        .toArray();
+    long[] fromIndex = personZipCodeIndex.find(98765, 98765, null, -1, 0L, 1000).orElseThrow();
+
+    assertTrue(fromDatabase.length >= 2);
+    assertArrayEquals(fromDatabase, fromIndex);
+  }
+}
@@ -0,0 +1,95 @@
+package org.dci.assecorassessmentbackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Stream;
+import org.dci.assecorassessmentbackend.model.Color;
+import org.dci.assecorassessmentbackend.model.Person;
+import org.dci.assecorassessmentbackend.repository.PersonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PersonZipCodeIndexTest {
+
+  @Mock
+  private PersonRepository personRepository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PersonZipCodeIndex personZipCodeIndex;
+
+  private PersonIndexes personIndexes;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    personZipCodeIndex = new PersonZipCodeIndex(true);
+    personIndexes = new PersonIndexes(List.of(personZipCodeIndex), personRepository, entityManager,
+        transactionManager);
+  }
+
+  @Test
+  void find_ShouldBeEmpty_WhenIndexWasNotBuilt() {
+    assertTrue(personZipCodeIndex.find(0, 99999, null, -1, 0L, 10).isEmpty());
+  }
+
+  @Test
+  void find_ShouldReturnIdsInZipCodeOrder_WhenSearchingRangeWithColor() {
+    when(personRepository.streamAll()).thenReturn(Stream.of(
+        person(1L, "67742", Color.BLAU),
+        person(2L, "18439", Color.GRUEN),
+        person(3L, "67700", Color.BLAU),
+        person(4L, "67799", Color.ROT),
+        person(5L, "6774", Color.BLAU),
+        person(6L, "67742", Color.BLAU)));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    assertArrayEquals(new long[] {3L, 1L, 6L, 4L}, find(67700, 67799, null, -1, 0L, 10));
+    assertArrayEquals(new long[] {3L, 1L, 6L}, find(67700, 67799, Color.BLAU, -1, 0L, 10));
+    assertArrayEquals(new long[] {6L, 4L}, find(67700, 67799, null, 67742, 1L, 10));
+    assertArrayEquals(new long[] {2L, 3L}, find(0, 99999, null, -1, 0L, 2));
+  }
+
+  @Test
+  void find_ShouldMergeAddedPersons_WhenPersonsAreAddedAfterRebuild() {
+    PersonsChangedEvent late = PersonsChangedEvent.added(List.of(person(1L, "67742",
+        Color.BLAU)));
+    personIndexes.onPersonsCommitting(late);
+    when(personRepository.streamAll()).thenReturn(Stream.of(
+        person(1L, "67742", Color.BLAU),
+        person(2L, "18439", Color.GRUEN)));
+    personIndexes.onPersonsChanged(PersonsChangedEvent.reloaded());
+
+    for (long id = 3; id < 5000; id++) {
+      personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+          person(id, String.format("%05d", id * 17 % 100_000), Color.ROT))));
+    }
+    personIndexes.onPersonsChanged(PersonsChangedEvent.added(List.of(
+        person(5000L, "67742", Color.BLAU))));
+    personIndexes.onPersonsChanged(late);
+    personIndexes.onPersonsCompleted(late);
+
+    assertArrayEquals(new long[] {1L, 5000L}, find(67742, 67742, Color.BLAU, -1, 0L, 10));
+    assertArrayEquals(new long[] {2L}, find(18439, 18439, null, -1, 0L, 10));
+    assertArrayEquals(new long[] {3961L}, find(67337, 67337, null, -1, 0L, 10));
+  }
+
+  private long[] find(int from, int to, Color color, int afterZip, long afterId, int limit) {
+    return personZipCodeIndex.find(from, to, color, afterZip, afterId, limit).orElseThrow();
+  }
+
+  private static Person person(long id, String zipCode, Color color) {
+    return new Person(id, "Jane", "Doe", zipCode, "Sample City", color);
+  }
+}